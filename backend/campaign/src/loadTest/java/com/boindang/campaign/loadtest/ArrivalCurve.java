@@ -0,0 +1,26 @@
+package com.boindang.campaign.loadtest;
+
+/**
+ * 신청 요청 도착 분포
+ */
+public enum ArrivalCurve {
+
+	BURST,    // 모든 요청이 오픈 시각에 한 번에 도착
+	CONSTANT, // 실행 시간 동안 균등하게 도착
+	RAMP;     // 0 에서 시작해 실행 시간 끝까지 선형으로 증가
+
+	/**
+	 * @param index 요청 순번 (0 ~ total - 1)
+	 * @return 시작 시각 기준 도착 시각 (ms)
+	 */
+	public long arrivalOffsetMillis(int index, int total, long durationMillis) {
+		if (total <= 1) return 0L;
+		double fraction = (double) index / (total - 1);
+		return switch (this) {
+			case BURST -> 0L;
+			case CONSTANT -> (long) (fraction * durationMillis);
+			// 누적 도착 수가 t^2 에 비례 -> 도착 시각은 sqrt(fraction)
+			case RAMP -> (long) (Math.sqrt(fraction) * durationMillis);
+		};
+	}
+}
@@ -0,0 +1,194 @@
+package com.boindang.campaign.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.boindang.campaign.application.CampaignApplyService;
+import com.boindang.campaign.common.exception.BadRequestException;
+import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 체험단 오픈 부하 시나리오 실행기
+ *
+ * ./gradlew loadTest -PloadTest.users=20000 -PloadTest.campaigns=10 -PloadTest.curve=RAMP
+ *
+ * 결과는 build/load-test/{시나리오}-{시각}.json 과 build/load-test/{시나리오}-latest.json 에 저장
+ */
+public class LaunchLoadTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final long CATCH_UP_TIMEOUT_MILLIS = 120_000;
+
+	public static void main(String[] args) throws Exception {
+		LoadScenario scenario = LoadScenario.fromSystemProperties();
+		int partitions = Integer.getInteger("loadTest.partitions", 6);
+
+		LoadTestReport report;
+		try (LoadTestEnvironment environment = new LoadTestEnvironment(partitions)) {
+			report = run(scenario, environment.context());
+		}
+
+		ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		Path dir = Path.of(System.getProperty("loadTest.outputDir", "build/load-test"));
+		Files.createDirectories(dir);
+		String json = objectMapper.writeValueAsString(report);
+		String timestamp = LocalDateTime.now(ZONE).format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		Files.writeString(dir.resolve(scenario.name() + "-" + timestamp + ".json"), json);
+		Files.writeString(dir.resolve(scenario.name() + "-latest.json"), json);
+
+		System.out.println(json);
+		LoadTestReport.OverAdmission over = report.overAdmission();
+		if (over.responses() + over.redis() + over.database() > 0) {
+			System.err.println("❗정원 초과 선정 발생: " + over);
+			System.exit(1);
+		}
+	}
+
+	private static LoadTestReport run(LoadScenario scenario, ConfigurableApplicationContext context) throws Exception {
+		CampaignApplyService applyService = context.getBean(CampaignApplyService.class);
+		CampaignRepository campaignRepository = context.getBean(CampaignRepository.class);
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		StringRedisTemplate redisTemplate = context.getBean(StringRedisTemplate.class);
+
+		// 1. 진행중 체험단 생성
+		LocalDateTime now = LocalDateTime.now(ZONE);
+		List<Long> campaignIds = new ArrayList<>();
+		for (int i = 0; i < scenario.campaigns(); i++) {
+			Campaign campaign = campaignRepository.save(new Campaign("부하 테스트 체험단 " + i, "설명", "식품", "음료",
+				new ArrayList<>(List.of("#부하테스트")), scenario.capacity(), null,
+				now.minusHours(1), now.plusHours(1), new ArrayList<>()));
+			campaignIds.add(campaign.getId());
+		}
+
+		// 2. 사용자 -> 체험단 배정과 도착 시각 (같은 시드면 항상 같은 요청 순서)
+		Random random = new Random(scenario.seed());
+		long[] targets = new long[scenario.users()];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = campaignIds.get(random.nextInt(campaignIds.size()));
+		}
+
+		// 3. 도착 시각에 맞춰 요청 스레드 풀에 제출 (응답 시간은 대기 시간을 포함해 도착 시각부터 측정)
+		ExecutorService requestPool = Executors.newFixedThreadPool(scenario.concurrency());
+		Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+		Map<Long, AtomicInteger> selectedByCampaign = new ConcurrentHashMap<>();
+		long[] latencies = new long[scenario.users()];
+		CountDownLatch done = new CountDownLatch(scenario.users());
+
+		String startedAt = LocalDateTime.now(ZONE).toString();
+		long begin = System.nanoTime();
+		for (int i = 0; i < scenario.users(); i++) {
+			long arrival = begin + TimeUnit.MILLISECONDS.toNanos(
+				scenario.curve().arrivalOffsetMillis(i, scenario.users(), scenario.durationMillis()));
+			long waitNanos = arrival - System.nanoTime();
+			if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+
+			int index = i;
+			long campaignId = targets[i];
+			requestPool.execute(() -> {
+				String outcome;
+				try {
+					ApplyResultResponse result = applyService.apply(campaignId, (long) index);
+					outcome = result.isSelected() ? "selected" : "waitlisted";
+					if (result.isSelected()) {
+						selectedByCampaign.computeIfAbsent(campaignId, id -> new AtomicInteger()).incrementAndGet();
+					}
+				} catch (CampaignException e) {
+					outcome = "rejected";
+				} catch (BadRequestException e) {
+					outcome = "closed";
+				} catch (Exception e) {
+					outcome = "error";
+				}
+				latencies[index] = System.nanoTime() - arrival;
+				outcomes.computeIfAbsent(outcome, key -> new AtomicInteger()).incrementAndGet();
+				done.countDown();
+			});
+		}
+		done.await();
+		long applyEnd = System.nanoTime();
+		requestPool.shutdown();
+
+		// 4. 컨슈머가 발행된 신청 이벤트를 모두 저장할 때까지 대기
+		int published = count(outcomes, "selected") + count(outcomes, "waitlisted");
+		long catchUpMillis = waitForConsumer(jdbcTemplate, published);
+
+		// 5. 정원 초과 선정 확인 (응답, Redis, DB)
+		int overResponses = 0;
+		int overRedis = 0;
+		int overDatabase = 0;
+		for (Long campaignId : campaignIds) {
+			overResponses += Math.max(0, selectedByCampaign.getOrDefault(campaignId, new AtomicInteger()).get() - scenario.capacity());
+
+			String redisCount = redisTemplate.opsForValue().get("apply:count:" + campaignId);
+			overRedis += Math.max(0, (redisCount == null ? 0 : Integer.parseInt(redisCount)) - scenario.capacity());
+
+			Integer dbSelected = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM campaign_application WHERE campaign_id = ? AND is_selected = TRUE", Integer.class, campaignId);
+			overDatabase += Math.max(0, (dbSelected == null ? 0 : dbSelected) - scenario.capacity());
+		}
+
+		Arrays.sort(latencies);
+		long elapsedNanos = applyEnd - begin;
+		Map<String, Integer> outcomeCounts = new LinkedHashMap<>();
+		for (String key : List.of("selected", "waitlisted", "rejected", "closed", "error")) {
+			outcomeCounts.put(key, count(outcomes, key));
+		}
+
+		return new LoadTestReport(
+			scenario,
+			System.getProperty("loadTest.commit", "unknown"),
+			startedAt,
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+			scenario.users() * 1_000_000_000.0 / elapsedNanos,
+			LoadTestReport.Latency.of(latencies),
+			outcomeCounts,
+			new LoadTestReport.OverAdmission(overResponses, overRedis, overDatabase),
+			catchUpMillis
+		);
+	}
+
+	/**
+	 * @return 마지막 신청 이후 저장 완료까지 걸린 시간 (시간 초과 시 -1)
+	 */
+	private static long waitForConsumer(JdbcTemplate jdbcTemplate, int expected) throws InterruptedException {
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(CATCH_UP_TIMEOUT_MILLIS);
+		while (System.nanoTime() < deadline) {
+			Integer saved = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM campaign_application", Integer.class);
+			if (saved != null && saved >= expected) {
+				return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			}
+			Thread.sleep(50);
+		}
+		return -1L;
+	}
+
+	private static int count(Map<String, AtomicInteger> outcomes, String key) {
+		AtomicInteger value = outcomes.get(key);
+		return value == null ? 0 : value.get();
+	}
+}
@@ -0,0 +1,37 @@
+package com.boindang.campaign.loadtest;
+
+/**
+ * 부하 테스트 시나리오 (-PloadTest.* 로 전달된 시스템 프로퍼티에서 읽음)
+ *
+ * @param users          신청 사용자 수 (사용자당 1회 신청)
+ * @param campaigns      체험단 수
+ * @param capacity       체험단별 모집 인원
+ * @param curve          요청 도착 분포
+ * @param durationMillis CONSTANT/RAMP 도착 구간 길이
+ * @param concurrency    동시에 신청을 처리하는 요청 스레드 수 (Tomcat max threads 에 해당)
+ * @param seed           사용자 -> 체험단 배정 난수 시드 (같은 시드면 같은 요청 순서)
+ */
+public record LoadScenario(
+	String name,
+	int users,
+	int campaigns,
+	int capacity,
+	ArrivalCurve curve,
+	long durationMillis,
+	int concurrency,
+	long seed
+) {
+
+	public static LoadScenario fromSystemProperties() {
+		return new LoadScenario(
+			System.getProperty("loadTest.name", "launch"),
+			Integer.getInteger("loadTest.users", 10_000),
+			Integer.getInteger("loadTest.campaigns", 5),
+			Integer.getInteger("loadTest.capacity", 100),
+			ArrivalCurve.valueOf(System.getProperty("loadTest.curve", "BURST").toUpperCase()),
+			Long.getLong("loadTest.durationMillis", 10_000L),
+			Integer.getInteger("loadTest.concurrency", 200),
+			Long.getLong("loadTest.seed", 42L)
+		);
+	}
+}
@@ -0,0 +1,74 @@
+package com.boindang.campaign.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.boindang.campaign.CampaignApplication;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 외부 인프라 없이 campaign 서비스를 띄우는 로컬 환경
+ *
+ * - Kafka: 내장 KRaft 브로커
+ * - Redis: embedded-redis (로컬 redis-server 바이너리)
+ * - DB: H2 (MySQL 모드, 스키마는 Hibernate 가 생성)
+ */
+public class LoadTestEnvironment implements AutoCloseable {
+
+	private final RedisServer redisServer;
+	private final EmbeddedKafkaKraftBroker kafkaBroker;
+	private final ConfigurableApplicationContext context;
+
+	public LoadTestEnvironment(int partitions) throws IOException {
+		int redisPort = freePort();
+		redisServer = new RedisServer(redisPort);
+		redisServer.start();
+
+		kafkaBroker = new EmbeddedKafkaKraftBroker(1, partitions, "apply-campaign");
+		kafkaBroker.afterPropertiesSet();
+
+		context = new SpringApplicationBuilder(CampaignApplication.class)
+			.properties(
+				"server.port=0",
+				"management.server.port=0",
+				"eureka.client.enabled=false",
+				"EUREKA_URL=http://localhost:8761/eureka",
+				"HOST_IP=localhost",
+				"spring.cloud.discovery.enabled=false",
+				"spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"spring.datasource.username=sa",
+				"spring.datasource.password=",
+				"spring.datasource.driver-class-name=org.h2.Driver",
+				"spring.jpa.hibernate.ddl-auto=create-drop",
+				"spring.data.redis.host=localhost",
+				"spring.data.redis.port=" + redisPort,
+				"spring.kafka.bootstrap-servers=" + kafkaBroker.getBrokersAsString(),
+				"campaign.kafka.topic.partitions=" + partitions,
+				"campaign.kafka.consumer.concurrency=" + partitions,
+				"logging.level.com.boindang=WARN"
+			)
+			.run();
+	}
+
+	public ConfigurableApplicationContext context() {
+		return context;
+	}
+
+	@Override
+	public void close() throws IOException {
+		context.close();
+		kafkaBroker.destroy();
+		redisServer.stop();
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.boindang.campaign.loadtest;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장해 커밋 간 비교)
+ */
+public record LoadTestReport(
+	LoadScenario scenario,
+	String commit,
+	String startedAt,
+	long elapsedMillis,
+	double throughputPerSecond,
+	Latency latencyMillis,
+	Map<String, Integer> outcomes,
+	OverAdmission overAdmission,
+	long consumerCatchUpMillis
+) {
+
+	public record Latency(double p50, double p95, double p99, double max) {
+
+		// 정렬된 응답 시간(ns) 배열에서 백분위 계산
+		public static Latency of(long[] sortedNanos) {
+			if (sortedNanos.length == 0) return new Latency(0, 0, 0, 0);
+			return new Latency(
+				percentile(sortedNanos, 0.50),
+				percentile(sortedNanos, 0.95),
+				percentile(sortedNanos, 0.99),
+				sortedNanos[sortedNanos.length - 1] / 1_000_000.0
+			);
+		}
+
+		private static double percentile(long[] sortedNanos, double p) {
+			int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+			return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+		}
+	}
+
+	/**
+	 * 정원을 초과해 선정된 인원 (0 이 아니면 회귀)
+	 *
+	 * @param responses 신청 응답에서 선정(isSelected=true)된 인원 중 정원 초과분
+	 * @param redis     apply:count 중 정원 초과분
+	 * @param database  campaign_application 선정 내역 중 정원 초과분
+	 */
+	public record OverAdmission(int responses, int redis, int database) {}
+}
@@ -4,6 +4,7 @@ import java.util.TimeZone;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.info.Info;
 	info = @Info(title = "보인당 체험단 API", version = "v1", description = "보인당 API 명세서")
 )
 @SpringBootApplication
+@EnableScheduling
 public class CampaignApplication {
 
 	public static void main(String[] args) {
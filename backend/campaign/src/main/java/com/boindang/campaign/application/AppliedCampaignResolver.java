@@ -0,0 +1,60 @@
+package com.boindang.campaign.application;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+import com.boindang.campaign.infrastructure.repository.CampaignApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자의 체험단 신청 여부를 페이지 단위로 한 번에 조회한다.
+ *
+ * - 1차: Redis 신청자 Set (apply:users:{id}) 을 파이프라인 한 번으로 조회
+ * - 2차: Set 이 없는(만료된) 체험단만 DB IN 쿼리 한 번으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppliedCampaignResolver {
+
+	private final RedisApplicationStore redisStore;
+	private final CampaignApplicationRepository applicationRepository;
+
+	public Set<Long> resolve(Collection<Long> campaignIds, Long userId) {
+		Set<Long> applied = new HashSet<>();
+		if (userId == null || campaignIds.isEmpty()) return applied;
+
+		List<Long> ids = List.copyOf(campaignIds);
+		Map<Long, Boolean> cached;
+		try {
+			cached = redisStore.findApplied(ids, userId);
+		} catch (DataAccessException e) {
+			log.warn("❗Redis 신청 여부 조회 실패, DB로 대체합니다.", e);
+			cached = Map.of();
+		}
+
+		cached.forEach((campaignId, isApplied) -> {
+			if (isApplied) applied.add(campaignId);
+		});
+
+		Map<Long, Boolean> hits = cached;
+		List<Long> misses = ids.stream().filter(id -> !hits.containsKey(id)).toList();
+		if (!misses.isEmpty()) {
+			applied.addAll(applicationRepository.findAppliedCampaignIds(userId, misses));
+		}
+		return applied;
+	}
+
+	public boolean isApplied(Long campaignId, Long userId) {
+		return resolve(List.of(campaignId), userId).contains(campaignId);
+	}
+}
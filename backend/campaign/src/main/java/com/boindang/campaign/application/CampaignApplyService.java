@@ -2,19 +2,24 @@ package com.boindang.campaign.application;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import org.springframework.stereotype.Service;
 
+import com.boindang.campaign.application.admission.CampaignAdmissionCache;
 import com.boindang.campaign.common.exception.BadRequestException;
-import com.boindang.campaign.common.exception.CampaignNotFoundException;
-import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.common.exception.DuplicateApplicationException;
+import com.boindang.campaign.domain.model.ApplyOutcome;
+import com.boindang.campaign.domain.model.CampaignAdmission;
 import com.boindang.campaign.domain.model.CampaignStatus;
 import com.boindang.campaign.infrastructure.kafka.producer.KafkaCampaignProducer;
 import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
-import com.boindang.campaign.infrastructure.repository.CampaignRepository;
 import com.boindang.campaign.presentation.dto.response.ApplyEvent;
 import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,24 +30,29 @@ public class CampaignApplyService {
 
 	private final RedisApplicationStore redisStore;
 	private final KafkaCampaignProducer kafkaProducer;
-	private final CampaignRepository campaignRepository;
+	private final CampaignAdmissionCache admissionCache;
+	private final MeterRegistry meterRegistry;
 
 	public ApplyResultResponse apply(Long campaignId, Long userId) {
 		log.info("🔥 체험단 신청 시작: campaignId={}, userId={}", campaignId, userId);
 
-		Campaign campaign = campaignRepository.findById(campaignId)
-			.orElseThrow(() -> new CampaignNotFoundException("해당 체험단이 존재하지 않습니다."));
-
-		// 모집 상태 확인
-		if (campaign.getStatus() != CampaignStatus.OPEN) {
-			throw new BadRequestException("진행중인 체험단만 신청할 수 있습니다.");
-		}
+		CampaignAdmission admission = checkAdmission(campaignId);
 
 		// TTL 계산
-		Duration ttl = Duration.between(LocalDateTime.now(), campaign.getEndDate());
+		Duration ttl = Duration.between(LocalDateTime.now(ZoneId.of("Asia/Seoul")), admission.endDate());
 
-		boolean isSelected = redisStore.tryApply(campaignId, userId, campaign.getCapacity(), ttl);
-		log.info("✅ Redis 선처리 완료. 선정 여부: {}", isSelected);
+		Timer.Sample redisSample = Timer.start(meterRegistry);
+		ApplyOutcome outcome = redisStore.tryApply(campaignId, userId, admission.capacity(), ttl);
+		redisSample.stop(meterRegistry.timer("campaign.apply.redis.admission", "outcome", outcome.name().toLowerCase()));
+		log.info("✅ Redis 선처리 완료. 처리 결과: {}", outcome);
+
+		switch (outcome) {
+			case DUPLICATE -> throw new DuplicateApplicationException("이미 신청하신 체험단입니다.");
+			case CLOSED -> throw new CampaignException("현재 신청할 수 없는 체험단입니다.");
+			case WAITLISTED -> admissionCache.markSoldOut(campaignId); // 이후 신청은 로컬에서 바로 거절
+			default -> { }
+		}
+		boolean isSelected = outcome.isSelected();
 
 		// Kafka 이벤트 발행
 		ApplyEvent event = new ApplyEvent(campaignId, userId, isSelected);
@@ -52,4 +62,24 @@ public class CampaignApplyService {
 		return new ApplyResultResponse(campaignId, isSelected);
 	}
 
+	/**
+	 * 로컬 캐시로 마감/정원 초과 체험단은 DB, Redis 호출 없이 거절한다.
+	 *
+	 * @return 신청 가능한 체험단의 신청 상태
+	 */
+	public CampaignAdmission checkAdmission(Long campaignId) {
+		CampaignAdmission admission = admissionCache.get(campaignId);
+
+		// 모집 상태 확인
+		if (admission.statusAt(LocalDateTime.now(ZoneId.of("Asia/Seoul"))) != CampaignStatus.OPEN) {
+			admissionCache.recordClosedRejection();
+			throw new BadRequestException("진행중인 체험단만 신청할 수 있습니다.");
+		}
+		if (admission.soldOut()) {
+			admissionCache.recordSoldOutRejection();
+			throw new CampaignException("모집 정원이 마감되었습니다.");
+		}
+		return admission;
+	}
+
 }
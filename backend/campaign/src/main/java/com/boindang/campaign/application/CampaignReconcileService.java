@@ -0,0 +1,139 @@
+package com.boindang.campaign.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.boindang.campaign.domain.model.CampaignAdmission;
+import com.boindang.campaign.domain.model.CampaignApplicant;
+import com.boindang.campaign.infrastructure.kafka.producer.KafkaCampaignProducer;
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+import com.boindang.campaign.infrastructure.repository.ApplyEventOutboxRepository;
+import com.boindang.campaign.infrastructure.repository.CampaignApplicationRepository;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 선처리 상태(apply:users, apply:count)와 MySQL 신청 내역/현재 인원의 차이를 찾아 보정한다.
+ *
+ * - 신청 내역은 keyset 페이지로 나눠 읽고, 각 조회는 트랜잭션 없이 한 문장으로 끝남
+ * - Redis Set 은 SSCAN 으로 나눠 읽음
+ * - Redis 에만 있는 신청자는 처리 중(Kafka 지연)일 수 있으므로 두 번 연속 발견된 경우에만 유실로 판단
+ *   (직전 점검 결과는 Redis 에 보관하므로 어느 인스턴스가 점검해도 연속 여부가 유지됨)
+ * - 유실 신청은 Redis 선착순 처리 당시의 선정 결과(apply:selected)로 재발행하며, outbox 에 남아 있는 신청은 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignReconcileService {
+
+	private final CampaignRepository campaignRepository;
+	private final CampaignApplicationRepository applicationRepository;
+	private final ApplyEventOutboxRepository outboxRepository;
+	private final RedisApplicationStore redisStore;
+	private final KafkaCampaignProducer kafkaProducer;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${campaign.reconcile.batch-size:1000}")
+	private int batchSize;
+
+	public void reconcileOpenCampaigns() {
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		List<CampaignAdmission> campaigns = campaignRepository.findAdmissionsOpenAt(now);
+
+		for (CampaignAdmission campaign : campaigns) {
+			try {
+				reconcile(campaign, Duration.between(now, campaign.endDate()));
+			} catch (Exception e) {
+				log.error("❗정합성 점검 실패: campaignId={}", campaign.campaignId(), e);
+			}
+		}
+	}
+
+	private void reconcile(CampaignAdmission campaign, Duration ttl) {
+		Long campaignId = campaign.campaignId();
+
+		// Redis 를 먼저 읽어야 그 이후 저장된 신청이 "Redis 에 없는 신청"으로 잘못 잡히지 않음
+		long redisCount = redisStore.getSelectedCount(campaignId);
+		Set<Long> redisUsers = redisStore.scanApplicants(campaignId, batchSize);
+
+		Set<Long> dbUsers = new HashSet<>();
+		Set<Long> dbSelectedUsers = new HashSet<>();
+		int dbSelected = 0;
+		Long lastId = 0L;
+		List<CampaignApplicant> page;
+		do {
+			page = applicationRepository.findApplicantsAfter(campaignId, lastId, PageRequest.ofSize(batchSize));
+			for (CampaignApplicant applicant : page) {
+				dbUsers.add(applicant.userId());
+				if (applicant.selected()) {
+					dbSelected++;
+					dbSelectedUsers.add(applicant.userId());
+				}
+			}
+			if (!page.isEmpty()) lastId = page.get(page.size() - 1).applicationId();
+		} while (page.size() == batchSize);
+
+		// 1. DB 에만 있는 신청자 -> Redis Set 복구 (복구하지 않으면 중복 신청이 통과됨)
+		Set<Long> missingInRedis = new HashSet<>(dbUsers);
+		missingInRedis.removeAll(redisUsers);
+		if (!missingInRedis.isEmpty()) {
+			Set<Long> selectedMissing = new HashSet<>(missingInRedis);
+			selectedMissing.retainAll(dbSelectedUsers);
+			redisStore.addApplicants(campaignId, missingInRedis, selectedMissing, ttl);
+			recordDrift("missing_in_redis", missingInRedis.size());
+		}
+
+		// 2. Redis 에만 있는 신청자 -> 직전 점검에도 없었다면 유실된 이벤트로 보고 재발행
+		Set<Long> missingInDb = new HashSet<>(redisUsers);
+		missingInDb.removeAll(dbUsers);
+		Set<Long> lost = new HashSet<>(missingInDb);
+		lost.retainAll(redisStore.replaceSuspectedLost(campaignId, missingInDb, ttl));
+		if (!lost.isEmpty()) {
+			// outbox 에 남은 신청은 relay 가 재발행하므로 제외
+			outboxRepository.findPendingUserIds(campaignId, lost).forEach(lost::remove);
+		}
+		if (!lost.isEmpty()) {
+			// 선착순 처리 당시 결과 그대로 재발행 (대기자가 선정자보다 먼저 좌석을 가져가지 않도록), 저장 시 DB 정원으로 다시 판정
+			Set<Long> selectedUsers = redisStore.findSelected(campaignId, lost);
+			lost.forEach(userId -> kafkaProducer.send("apply-campaign",
+				new ApplyEvent(campaignId, userId, selectedUsers.contains(userId))));
+			recordDrift("missing_in_db", lost.size());
+		}
+
+		// 3. Redis 선정 카운트 보정 (처리 중인 신청이 있으면 줄이지 않고, 모자란 경우에만 올림)
+		long targetCount = Math.min(dbSelected, campaign.capacity());
+		boolean settled = missingInDb.isEmpty();
+		if ((settled && redisCount != targetCount) || redisCount < targetCount) {
+			if (redisStore.compareAndSetSelectedCount(campaignId, redisCount, targetCount, ttl)) {
+				recordDrift("redis_count", Math.abs(redisCount - targetCount));
+			}
+		}
+
+		// 4. DB 현재 인원 보정 (보정 UPDATE 는 COUNT 와 함께 한 문장으로 실행되므로 점검 중 저장된 신청도 반영됨)
+		Integer remainingSeats = campaignRepository.findRemainingSeats(campaignId);
+		int currentApplicants = remainingSeats == null ? dbSelected : campaign.capacity() - remainingSeats;
+		if (currentApplicants != dbSelected) {
+			campaignRepository.syncApplicantsWithApplications(campaignId);
+			recordDrift("db_count", Math.abs(currentApplicants - dbSelected));
+		}
+
+		log.info("🔍 정합성 점검 완료: campaignId={}, redis={}/{}, db={}/{}, redis 누락={}, db 누락={}",
+			campaignId, redisCount, redisUsers.size(), dbSelected, dbUsers.size(), missingInRedis.size(), lost.size());
+	}
+
+	private void recordDrift(String type, long amount) {
+		meterRegistry.counter("campaign.reconcile.drift", "type", type).increment(amount);
+	}
+}
@@ -1,39 +1,162 @@
 package com.boindang.campaign.application;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.boindang.campaign.common.exception.CampaignNotFoundException;
 import com.boindang.campaign.domain.model.Campaign;
 import com.boindang.campaign.domain.model.CampaignApplication;
+import com.boindang.campaign.infrastructure.repository.CampaignApplicationJdbcRepository;
 import com.boindang.campaign.infrastructure.repository.CampaignApplicationRepository;
 import com.boindang.campaign.infrastructure.repository.CampaignRepository;
 import com.boindang.campaign.presentation.dto.response.ApplyEvent;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CampaignSaveService {
 
 	private final CampaignApplicationRepository applicationRepository;
+	private final CampaignApplicationJdbcRepository applicationJdbcRepository;
 	private final CampaignRepository campaignRepository;
+	private final MeterRegistry meterRegistry;
 
-	public void save(ApplyEvent event) {
+	/**
+	 * @return 정원 확인 후 실제로 저장된 신청 결과 (이미 저장된 신청의 재발행 이벤트면 empty)
+	 */
+	public Optional<ApplyEvent> save(ApplyEvent event) {
 		// 1. Campaign 조회
 		Campaign campaign = campaignRepository.findById(event.getCampaignId())
 			.orElseThrow(() -> new CampaignNotFoundException("해당 체험단이 존재하지 않습니다."));
 
-		// 2. CampaignApplication 생성 (연관 객체 전달)
-		CampaignApplication application = CampaignApplication.of(event, campaign);
-		System.out.println(">>> Campaign ID before save: " + campaign.getId());
+		// 재발행(ack 타임아웃 후 outbox relay 등)으로 다시 들어온 신청은 좌석을 부여하지 않고 건너뜀
+		if (applicationRepository.existsByCampaignIdAndUserId(event.getCampaignId(), event.getUserId())) {
+			recordDuplicate(1);
+			return Optional.empty();
+		}
+
+		// 2. 선정된 경우만 신청자 수 증가 (정원을 넘으면 대기자로 저장)
+		ApplyEvent confirmed = event;
+		if (event.isSelected() && grantSeats(campaign.getId(), 1) == 0) {
+			log.warn("❗정원 초과로 선정 취소: {}", event);
+			recordCapacityReached();
+			confirmed = event.toWaitlisted();
+		}
+
+		// 3. CampaignApplication 생성 (연관 객체 전달)
+		CampaignApplication application = CampaignApplication.of(confirmed, campaign);
 		applicationRepository.save(application);
+		return Optional.of(confirmed);
+	}
+
+	/**
+	 * Kafka poll 단위로 받은 신청 이벤트를 한 트랜잭션에서 저장한다.
+	 *
+	 * - 신청 내역은 JDBC batch insert 로 한 번에 저장
+	 * - 체험단별 선정 인원 증가분은 조건부 UPDATE 로 정원 내에서만 반영
+	 * - 이미 저장된 (campaign_id, user_id) 와 같은 배치 안의 중복 이벤트는 좌석 부여 전에 제외
+	 *
+	 * @param events 한 번의 poll 로 수신한 신청 이벤트 목록
+	 * @return 정원 확인 후 실제로 저장된 신청 결과 (제외된 중복 이벤트는 포함하지 않음)
+	 */
+	public List<ApplyEvent> saveAll(List<ApplyEvent> events) {
+		if (events.isEmpty()) return List.of();
+
+		// 1. 존재하는 체험단만 저장 (없는 체험단 이벤트는 재시도해도 실패하므로 제외)
+		Set<Long> campaignIds = events.stream().map(ApplyEvent::getCampaignId).collect(Collectors.toSet());
+		Set<Long> existingIds = new HashSet<>(campaignRepository.findExistingIds(campaignIds));
+
+		Map<Long, List<ApplyEvent>> eventsByCampaign = events.stream()
+			.filter(event -> {
+				boolean exists = existingIds.contains(event.getCampaignId());
+				if (!exists) log.warn("❗존재하지 않는 체험단 신청 이벤트 제외: {}", event);
+				return exists;
+			})
+			.collect(Collectors.groupingBy(ApplyEvent::getCampaignId));
+		if (eventsByCampaign.isEmpty()) return List.of();
+
+		// 2. 체험단별 선정 인원 증가분을 정원 내에서 반영 (부여받은 좌석 수만큼만 선정 유지)
+		List<ApplyEvent> confirmed = new ArrayList<>(events.size());
+		eventsByCampaign.forEach((campaignId, received) -> {
+			List<ApplyEvent> campaignEvents = excludeSaved(campaignId, received);
+			if (campaignEvents.isEmpty()) return;
+
+			int selected = (int) campaignEvents.stream().filter(ApplyEvent::isSelected).count();
+			int granted = selected > 0 ? grantSeats(campaignId, selected) : 0;
+			if (granted < selected) {
+				log.warn("❗정원 초과로 선정 취소: campaignId={}, 요청={}, 부여={}", campaignId, selected, granted);
+				recordCapacityReached();
+			}
+
+			int remaining = granted;
+			for (ApplyEvent event : campaignEvents) {
+				if (event.isSelected() && remaining-- <= 0) {
+					confirmed.add(event.toWaitlisted());
+				} else {
+					confirmed.add(event);
+				}
+			}
+		});
+
+		// 3. 신청 내역 bulk insert
+		if (confirmed.isEmpty()) return List.of();
+		applicationJdbcRepository.batchInsert(confirmed, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+		return confirmed;
+	}
+
+	// 같은 사용자의 이벤트는 처음 것만 남기고, 이미 저장된 신청은 제외 (같은 체험단은 같은 파티션이라 순서대로 처리됨)
+	private List<ApplyEvent> excludeSaved(Long campaignId, List<ApplyEvent> received) {
+		Map<Long, ApplyEvent> byUser = new LinkedHashMap<>();
+		received.forEach(event -> byUser.putIfAbsent(event.getUserId(), event));
+		applicationRepository.findSavedUserIds(campaignId, byUser.keySet()).forEach(byUser::remove);
+
+		int duplicates = received.size() - byUser.size();
+		if (duplicates > 0) {
+			log.warn("❗이미 저장된 신청 이벤트 제외: campaignId={}, {}건", campaignId, duplicates);
+			recordDuplicate(duplicates);
+		}
+		return new ArrayList<>(byUser.values());
+	}
+
+	private void recordDuplicate(int count) {
+		meterRegistry.counter("campaign.apply.duplicate", "stage", "db").increment(count);
+	}
+
+	// Redis 선처리에서는 선정됐지만 DB 정원 확인에서 대기자로 바뀐 경우
+	private void recordCapacityReached() {
+		meterRegistry.counter("campaign.apply.capacity.reached", "stage", "db").increment();
+	}
 
-		// 3. 선정된 경우만 신청자 수 증가
-		if (event.isSelected()) {
-			campaign.increaseApplicant(); // DB 반영
+	/**
+	 * 정원 내에서 최대 requested 만큼 좌석을 부여한다.
+	 *
+	 * - 조건부 UPDATE 한 문장이 최신 커밋 값 기준으로 LEAST(requested, 남은 좌석) 만큼 증가시키므로
+	 *   트랜잭션 앞쪽 조회의 스냅샷에 묶이지 않고, 잠금 읽기나 재시도 없이 한 번에 반영된다.
+	 * - 부여한 수는 같은 문장이 LAST_INSERT_ID(expr) 로 세션에 남긴 값을 읽는다. (행 조회 아님)
+	 *
+	 * @return 실제로 부여된 좌석 수
+	 */
+	private int grantSeats(Long campaignId, int requested) {
+		if (campaignRepository.grantSeatsWithinCapacity(campaignId, requested) == 0) {
+			return 0; // 남은 좌석 없음 (LAST_INSERT_ID 가 갱신되지 않으므로 읽지 않음)
 		}
+		return campaignRepository.findLastGrantedSeats().intValue();
 	}
 
 }
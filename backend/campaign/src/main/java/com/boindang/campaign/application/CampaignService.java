@@ -1,26 +1,29 @@
 package com.boindang.campaign.application;
 
+import com.boindang.campaign.application.listing.CampaignListing;
+import com.boindang.campaign.application.listing.CampaignListingIndex;
+import com.boindang.campaign.application.mypage.MyApplicationCache;
+import com.boindang.campaign.application.mypage.MyApplicationCursor;
 import com.boindang.campaign.common.exception.BadRequestException;
 import com.boindang.campaign.common.exception.CampaignNotFoundException;
 import com.boindang.campaign.domain.model.Campaign;
 import com.boindang.campaign.domain.model.CampaignStatus;
+import com.boindang.campaign.domain.model.MyApplicationRow;
 import com.boindang.campaign.infrastructure.repository.CampaignApplicationRepository;
 import com.boindang.campaign.infrastructure.repository.CampaignRepository;
 import com.boindang.campaign.presentation.dto.response.CampaignDetailResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignListResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignSummaryResponse;
+import com.boindang.campaign.presentation.dto.response.MyApplicationPageResponse;
 import com.boindang.campaign.presentation.dto.response.MyApplicationResponse;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,65 +31,36 @@ public class CampaignService {
 
 	private final CampaignRepository campaignRepository;
 	private final CampaignApplicationRepository applicationRepository;
+	private final CampaignListingIndex listingIndex;
+	private final AppliedCampaignResolver appliedCampaignResolver;
+	private final MyApplicationCache myApplicationCache;
 
-	@Transactional // ✅ 반드시 있어야 DB에 상태가 반영됨
+	private static final int MAX_MY_APPLICATION_PAGE_SIZE = 100;
+
+	// 목록은 미리 정렬된 인덱스에서 바로 페이지를 잘라 반환 (DB 조회/쓰기 없음)
 	public CampaignListResponse getCampaigns(String status, int size, int page, Long userId) {
-		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-		List<Campaign> allCampaigns = campaignRepository.findAll();
-
-		// ✅ 상태 한 번만 계산 + DB 반영
-		Map<Long, CampaignStatus> statusMap = allCampaigns.stream()
-			.collect(Collectors.toMap(Campaign::getId, c -> c.calculateAndSyncStatus(now)));
-
-		// ✅ 상태 필터링
-		List<Campaign> filtered = allCampaigns.stream()
-			.filter(campaign -> {
-				CampaignStatus dynamicStatus = statusMap.get(campaign.getId());
-				if (status == null) return true;
-				return switch (status) {
-					case "진행중" -> dynamicStatus == CampaignStatus.OPEN;
-					case "모집 예정" -> dynamicStatus == CampaignStatus.PENDING;
-					case "종료" -> dynamicStatus == CampaignStatus.CLOSED;
-					default -> throw new BadRequestException("유효하지 않은 상태입니다.");
-				};
-			})
-			.toList();
+		if (size <= 0 || page < 0) {
+			throw new BadRequestException("유효하지 않은 페이지 요청입니다.");
+		}
 
-		// ✅ 정렬
-		List<Campaign> sorted = filtered.stream()
-			.sorted(Comparator
-				.comparing((Campaign c) -> {
-					CampaignStatus s = statusMap.get(c.getId());
-					return switch (s) {
-						case OPEN -> 0;
-						case PENDING -> 1;
-						case CLOSED -> 2;
-					};
-				})
-				.thenComparing(c -> {
-					CampaignStatus s = statusMap.get(c.getId());
-					return switch (s) {
-						case OPEN, CLOSED -> c.getEndDate();
-						case PENDING -> c.getStartDate();
-					};
-				})
-			)
-			.toList();
+		CampaignStatus filter = status == null ? null : switch (status) {
+			case "진행중" -> CampaignStatus.OPEN;
+			case "모집 예정" -> CampaignStatus.PENDING;
+			case "종료" -> CampaignStatus.CLOSED;
+			default -> throw new BadRequestException("유효하지 않은 상태입니다.");
+		};
 
-		// ✅ 페이징
-		int fromIndex = page * size;
-		int toIndex = Math.min(fromIndex + size, sorted.size());
+		CampaignListingIndex.ListingPage listingPage = listingIndex.page(filter, page, size);
 
-		List<CampaignSummaryResponse> pageContent = sorted.subList(fromIndex, toIndex).stream()
-			.map(campaign -> {
-				boolean isApplied = applicationRepository.existsByCampaignIdAndUserId(campaign.getId(), userId);
-				return CampaignSummaryResponse.from(campaign, isApplied);
-			})
-			.toList();
+		// 페이지 전체의 신청 여부를 한 번에 조회
+		Set<Long> appliedIds = appliedCampaignResolver.resolve(
+			listingPage.content().stream().map(CampaignListing::id).toList(), userId);
 
-		int totalPages = (int) Math.ceil((double) sorted.size() / size);
+		List<CampaignSummaryResponse> pageContent = listingPage.content().stream()
+			.map(listing -> CampaignSummaryResponse.from(listing, appliedIds.contains(listing.id())))
+			.toList();
 
-		return new CampaignListResponse(totalPages, pageContent);
+		return new CampaignListResponse(listingPage.totalPages(), pageContent);
 	}
 
 	@Transactional(readOnly = true)
@@ -94,21 +68,42 @@ public class CampaignService {
 		Campaign campaign = campaignRepository.findById(campaignId)
 			.orElseThrow(() -> new CampaignNotFoundException("해당 체험단이 존재하지 않습니다."));
 
-		campaign.getNotices().size(); // Lazy 초기화
-
-		boolean isApplied = applicationRepository.existsByCampaignIdAndUserId(campaign.getId(), userId);
+		// from 에서 해시태그/주의사항을 복사하며 초기화하므로 트랜잭션 안에서 변환
+		boolean isApplied = appliedCampaignResolver.isApplied(campaign.getId(), userId);
 		return CampaignDetailResponse.from(campaign, isApplied);
 	}
 
-	public List<MyApplicationResponse> getMyApplications(Long userId) {
-		return applicationRepository.findWithCampaignByUserId(userId).stream()
-			.map(app -> new MyApplicationResponse(
-				app.getCampaign().getId(),
-				app.getCampaign().getName(),
-				app.isSelected(),
-				app.getAppliedAt()
-			))
-			.collect(Collectors.toList());
+	/**
+	 * 내 신청 내역을 최근 신청순으로 커서 기반 페이지 조회한다.
+	 *
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 */
+	public MyApplicationPageResponse getMyApplications(Long userId, String cursor, int size) {
+		if (size <= 0 || size > MAX_MY_APPLICATION_PAGE_SIZE) {
+			throw new BadRequestException("유효하지 않은 페이지 요청입니다.");
+		}
+		return myApplicationCache.get(userId, cursor, size, () -> loadMyApplications(userId, cursor, size));
+	}
+
+	private MyApplicationPageResponse loadMyApplications(Long userId, String cursor, int size) {
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		PageRequest limit = PageRequest.ofSize(size + 1);
+		List<MyApplicationRow> rows;
+		if (cursor == null) {
+			rows = applicationRepository.findMyApplications(userId, limit);
+		} else {
+			MyApplicationCursor after = MyApplicationCursor.decode(cursor);
+			rows = applicationRepository.findMyApplicationsBefore(userId, after.appliedAt(), after.applicationId(), limit);
+		}
+
+		boolean hasNext = rows.size() > size;
+		List<MyApplicationRow> page = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? MyApplicationCursor.of(page.get(page.size() - 1)).encode() : null;
+
+		List<MyApplicationResponse> applications = page.stream()
+			.map(row -> new MyApplicationResponse(row.campaignId(), row.title(), row.isSelected(), row.appliedAt()))
+			.toList();
+		return new MyApplicationPageResponse(applications, nextCursor, hasNext);
 	}
 }
 
@@ -0,0 +1,152 @@
+package com.boindang.campaign.application.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.boindang.campaign.application.listing.CampaignChangedEvent;
+import com.boindang.campaign.common.exception.CampaignNotFoundException;
+import com.boindang.campaign.domain.model.CampaignAdmission;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체험단 신청 가능 상태 로컬 캐시
+ *
+ * - 마감/정원 초과 체험단은 DB, Redis 호출 없이 JVM 안에서 바로 거절
+ * - 정원 초과(sold out)는 Redis pub/sub 으로 다른 인스턴스에도 즉시 전파
+ * - 체험단 정보가 바뀌면 모든 인스턴스의 캐시를 무효화
+ */
+@Slf4j
+@Component
+public class CampaignAdmissionCache implements MessageListener {
+
+	public static final String ADMISSION_CHANNEL = "campaign:admission";
+	private static final String SOLD_OUT = "SOLD_OUT:";
+	private static final String INVALIDATE = "INVALIDATE:";
+
+	private final CampaignRepository campaignRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<Long, CampaignAdmission> cache;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter soldOutRejectCounter;
+	private final Counter closedRejectCounter;
+	private final Counter capacityReachedCounter;
+	private final Timer dbLookupTimer;
+
+	public CampaignAdmissionCache(
+		CampaignRepository campaignRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${campaign.admission.cache-ttl:2s}") Duration ttl
+	) {
+		this.campaignRepository = campaignRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(10_000)
+			.build();
+
+		this.hitCounter = meterRegistry.counter("campaign.admission.cache", "result", "hit");
+		this.missCounter = meterRegistry.counter("campaign.admission.cache", "result", "miss");
+		this.soldOutRejectCounter = meterRegistry.counter("campaign.admission.rejected", "reason", "sold_out");
+		this.closedRejectCounter = meterRegistry.counter("campaign.admission.rejected", "reason", "closed");
+		this.capacityReachedCounter = meterRegistry.counter("campaign.apply.capacity.reached", "stage", "redis");
+		this.dbLookupTimer = meterRegistry.timer("campaign.apply.db.lookup");
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(ADMISSION_CHANNEL));
+	}
+
+	public CampaignAdmission get(Long campaignId) {
+		CampaignAdmission admission = cache.getIfPresent(campaignId);
+		if (admission != null) {
+			hitCounter.increment();
+			return admission;
+		}
+
+		missCounter.increment();
+		admission = load(campaignId);
+		cache.put(campaignId, admission);
+		return admission;
+	}
+
+	public void recordSoldOutRejection() {
+		soldOutRejectCounter.increment();
+	}
+
+	public void recordClosedRejection() {
+		closedRejectCounter.increment();
+	}
+
+	/**
+	 * Redis 에서 정원 초과(WAITLISTED)가 확인된 체험단을 모든 인스턴스에서 sold out 처리한다.
+	 *
+	 * - 동시에 여러 대기 결과가 들어와도 sold out 으로 바꾼 한 번의 호출만 기록하고 전파한다.
+	 */
+	public void markSoldOut(Long campaignId) {
+		AtomicBoolean changed = new AtomicBoolean(false);
+		// 만료된 경우 다시 적재한 뒤 항목 단위로 원자적으로 전환
+		cache.get(campaignId, this::load);
+		cache.asMap().computeIfPresent(campaignId, (id, admission) -> {
+			if (admission.soldOut()) return admission; // 이미 전파됨
+			changed.set(true);
+			return admission.toSoldOut();
+		});
+		if (!changed.get()) return;
+
+		capacityReachedCounter.increment();
+		redisTemplate.convertAndSend(ADMISSION_CHANNEL, SOLD_OUT + campaignId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCampaignChanged(CampaignChangedEvent event) {
+		cache.invalidate(event.campaignId());
+		redisTemplate.convertAndSend(ADMISSION_CHANNEL, INVALIDATE + event.campaignId());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody());
+		try {
+			if (body.startsWith(SOLD_OUT)) {
+				markSoldOutLocally(Long.valueOf(body.substring(SOLD_OUT.length())));
+			} else if (body.startsWith(INVALIDATE)) {
+				cache.invalidate(Long.valueOf(body.substring(INVALIDATE.length())));
+			}
+		} catch (NumberFormatException e) {
+			log.warn("❗알 수 없는 신청 캐시 메시지: {}", body);
+		}
+	}
+
+	private CampaignAdmission load(Long campaignId) {
+		return dbLookupTimer.record(() -> campaignRepository.findAdmissionById(campaignId))
+			.orElseThrow(() -> new CampaignNotFoundException("해당 체험단이 존재하지 않습니다."));
+	}
+
+	private void markSoldOutLocally(Long campaignId) {
+		cache.asMap().computeIfPresent(campaignId, (id, admission) -> admission.toSoldOut());
+	}
+}
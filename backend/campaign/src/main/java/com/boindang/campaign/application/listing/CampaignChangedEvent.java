@@ -0,0 +1,6 @@
+package com.boindang.campaign.application.listing;
+
+/**
+ * 체험단이 생성/수정되었을 때 발행되는 이벤트 (커밋 이후 목록 인덱스에 반영, 목록 데이터는 CampaignListingReader 로 다시 조회)
+ */
+public record CampaignChangedEvent(Long campaignId) {}
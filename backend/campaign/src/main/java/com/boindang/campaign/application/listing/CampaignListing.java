@@ -0,0 +1,57 @@
+package com.boindang.campaign.application.listing;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.boindang.campaign.domain.model.CampaignStatus;
+import com.boindang.campaign.domain.model.CampaignSummaryRow;
+
+/**
+ * 체험단 목록 화면에 필요한 필드만 담은 불변 읽기 모델
+ */
+public record CampaignListing(
+	Long id,
+	String name,
+	String description,
+	String imageUrl,
+	LocalDateTime startDate,
+	LocalDateTime endDate,
+	int capacity,
+	List<String> hashtags,
+	CampaignStatus status
+) {
+
+	public static CampaignListing from(CampaignSummaryRow row, List<String> hashtags) {
+		return new CampaignListing(
+			row.id(),
+			row.name(),
+			row.description(),
+			row.imageUrl(),
+			row.startDate(),
+			row.endDate(),
+			row.capacity(),
+			List.copyOf(hashtags),
+			row.status()
+		);
+	}
+
+	public CampaignListing withStatus(CampaignStatus status) {
+		return new CampaignListing(id, name, description, imageUrl, startDate, endDate, capacity, hashtags, status);
+	}
+
+	// Campaign.calculateStatus 와 동일한 기준
+	public CampaignStatus statusAt(LocalDateTime now) {
+		if (now.isBefore(startDate)) return CampaignStatus.PENDING;
+		if (now.isAfter(endDate)) return CampaignStatus.CLOSED;
+		return CampaignStatus.OPEN;
+	}
+
+	/**
+	 * 다음 상태 전환 시각 (모집 예정 -> 진행중: startDate, 진행중 -> 종료: endDate 직후)
+	 */
+	public LocalDateTime nextBoundary(LocalDateTime now) {
+		if (now.isBefore(startDate)) return startDate;
+		if (!now.isAfter(endDate)) return endDate.plusNanos(1_000_000);
+		return null;
+	}
+}
@@ -0,0 +1,24 @@
+package com.boindang.campaign.application.listing;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.domain.model.Campaign;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CampaignListingEntityListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@PostPersist
+	@PostUpdate
+	public void onChange(Campaign campaign) {
+		// flush 중에는 지연 로딩 컬렉션(hashtags)을 초기화할 수 없으므로 id 만 전달
+		eventPublisher.publishEvent(new CampaignChangedEvent(campaign.getId()));
+	}
+}
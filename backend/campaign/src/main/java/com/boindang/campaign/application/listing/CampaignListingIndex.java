@@ -0,0 +1,165 @@
+package com.boindang.campaign.application.listing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.domain.model.CampaignStatus;
+import com.boindang.campaign.infrastructure.redis.CampaignListingRedisStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체험단 목록 인덱스 (메모리 + Redis)
+ *
+ * - 상태별(진행중/모집 예정/종료)로 미리 정렬된 스냅샷을 유지하여 페이지를 O(page size)로 반환
+ * - 읽기 경로에서는 DB 조회/쓰기가 없음
+ * - 상태 전환은 스케줄러가 시작/마감 시각에 맞춰 advance 를 호출해 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignListingIndex {
+
+	// 진행중(마감 임박순) -> 모집 예정(오픈 임박순) -> 종료(마감순)
+	private static final Comparator<CampaignListing> ORDER = Comparator
+		.comparingInt((CampaignListing l) -> switch (l.status()) {
+			case OPEN -> 0;
+			case PENDING -> 1;
+			case CLOSED -> 2;
+		})
+		.thenComparing(l -> switch (l.status()) {
+			case OPEN, CLOSED -> l.endDate();
+			case PENDING -> l.startDate();
+		})
+		.thenComparing(CampaignListing::id);
+
+	private final CampaignListingReader listingReader;
+	private final CampaignListingRedisStore redisStore;
+
+	private final Map<Long, CampaignListing> listings = new HashMap<>(); // this 로 보호
+	private volatile Snapshot snapshot;
+
+	public record ListingPage(int totalPages, List<CampaignListing> content) {}
+
+	/**
+	 * @param status null 이면 전체 상태
+	 */
+	public ListingPage page(CampaignStatus status, int page, int size) {
+		Snapshot current = snapshot;
+		if (current == null) {
+			current = restore();
+		}
+
+		List<CampaignListing> source = status == null ? current.all() : current.buckets().get(status);
+		int fromIndex = Math.min(page * size, source.size());
+		int toIndex = Math.min(fromIndex + size, source.size());
+		int totalPages = (int) Math.ceil((double) source.size() / size);
+
+		return new ListingPage(totalPages, source.subList(fromIndex, toIndex));
+	}
+
+	/**
+	 * Redis 스냅샷이 있으면 복원하고, 없으면 DB에서 전체 적재한다.
+	 */
+	public synchronized Snapshot restore() {
+		if (snapshot != null) return snapshot;
+
+		Optional<List<CampaignListing>> cached = redisStore.load();
+		if (cached.isPresent()) {
+			cached.get().forEach(listing -> listings.put(listing.id(), listing));
+			publish(false);
+			log.info("✅ 체험단 목록 인덱스 Redis 복원: {}건", listings.size());
+			return snapshot;
+		}
+		reload(LocalDateTime.now());
+		return snapshot;
+	}
+
+	/**
+	 * DB에서 전체 체험단을 다시 적재한다.
+	 *
+	 * @return DB에 저장된 상태와 계산된 상태가 다른 체험단 (id -> 새 상태)
+	 */
+	public synchronized Map<Long, CampaignStatus> reload(LocalDateTime now) {
+		Map<Long, CampaignStatus> changed = new HashMap<>();
+		listings.clear();
+		for (CampaignListing listing : listingReader.readAll()) {
+			CampaignStatus status = listing.statusAt(now);
+			if (listing.status() != status) {
+				changed.put(listing.id(), status);
+			}
+			listings.put(listing.id(), listing.withStatus(status));
+		}
+		publish(true);
+		log.info("✅ 체험단 목록 인덱스 DB 적재: {}건", listings.size());
+		return changed;
+	}
+
+	/**
+	 * 현재 시각 기준으로 상태가 바뀐 체험단만 다른 버킷으로 옮긴다.
+	 *
+	 * @return 상태가 바뀐 체험단 (id -> 새 상태)
+	 */
+	public synchronized Map<Long, CampaignStatus> advance(LocalDateTime now) {
+		Map<Long, CampaignStatus> changed = new HashMap<>();
+		listings.replaceAll((id, listing) -> {
+			CampaignStatus status = listing.statusAt(now);
+			if (status == listing.status()) return listing;
+			changed.put(id, status);
+			return listing.withStatus(status);
+		});
+		if (!changed.isEmpty()) {
+			publish(true);
+		}
+		return changed;
+	}
+
+	/**
+	 * 생성/수정된 체험단 한 건만 인덱스에 반영한다.
+	 *
+	 * @return 인덱스 내용이 실제로 바뀌었는지 여부
+	 */
+	public synchronized boolean upsert(CampaignListing listing) {
+		if (Objects.equals(listings.get(listing.id()), listing)) return false;
+		listings.put(listing.id(), listing);
+		publish(true);
+		return true;
+	}
+
+	public synchronized Optional<LocalDateTime> nextBoundary(LocalDateTime now) {
+		return listings.values().stream()
+			.map(listing -> listing.nextBoundary(now))
+			.filter(Objects::nonNull)
+			.min(Comparator.naturalOrder());
+	}
+
+	private void publish(boolean writeThrough) {
+		List<CampaignListing> all = new ArrayList<>(listings.values());
+		all.sort(ORDER);
+
+		Map<CampaignStatus, List<CampaignListing>> buckets = new EnumMap<>(CampaignStatus.class);
+		for (CampaignStatus status : CampaignStatus.values()) {
+			buckets.put(status, new ArrayList<>());
+		}
+		all.forEach(listing -> buckets.get(listing.status()).add(listing));
+		buckets.replaceAll((status, bucket) -> Collections.unmodifiableList(bucket));
+
+		snapshot = new Snapshot(Collections.unmodifiableList(all), buckets);
+		if (writeThrough) {
+			redisStore.save(all);
+		}
+	}
+
+	public record Snapshot(List<CampaignListing> all, Map<CampaignStatus, List<CampaignListing>> buckets) {}
+}
@@ -0,0 +1,54 @@
+package com.boindang.campaign.application.listing;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.domain.model.CampaignHashtag;
+import com.boindang.campaign.domain.model.CampaignSummaryRow;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체험단 목록 읽기 모델 조회
+ *
+ * - 요약 컬럼 projection 1회 + 해시태그 일괄 조회 1회 (조회 건수와 관계없이 쿼리 2개)
+ * - 반환되는 status 는 DB 에 저장된 상태 (현재 시각 기준 상태는 호출하는 쪽에서 계산)
+ */
+@Component
+@RequiredArgsConstructor
+public class CampaignListingReader {
+
+	private final CampaignRepository campaignRepository;
+
+	public List<CampaignListing> readAll() {
+		return assemble(campaignRepository.findSummaries(), campaignRepository.findAllHashtags());
+	}
+
+	public List<CampaignListing> read(Collection<Long> campaignIds) {
+		if (campaignIds.isEmpty()) return List.of();
+		return assemble(
+			campaignRepository.findSummariesByIdIn(campaignIds),
+			campaignRepository.findHashtagsByCampaignIdIn(campaignIds)
+		);
+	}
+
+	public Optional<CampaignListing> read(Long campaignId) {
+		return read(List.of(campaignId)).stream().findFirst();
+	}
+
+	private List<CampaignListing> assemble(List<CampaignSummaryRow> rows, List<CampaignHashtag> hashtags) {
+		Map<Long, List<String>> hashtagsById = hashtags.stream()
+			.collect(Collectors.groupingBy(CampaignHashtag::campaignId,
+				Collectors.mapping(CampaignHashtag::hashtag, Collectors.toList())));
+
+		return rows.stream()
+			.map(row -> CampaignListing.from(row, hashtagsById.getOrDefault(row.id(), List.of())))
+			.toList();
+	}
+}
@@ -0,0 +1,85 @@
+package com.boindang.campaign.application.mypage;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.presentation.dto.response.MyApplicationPageResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 내 신청 내역 페이지 로컬 캐시
+ *
+ * - 마이페이지 재방문 시 같은 페이지를 짧은 시간 동안 DB 조회 없이 반환
+ * - Kafka 컨슈머가 신청 내역을 저장하면 해당 사용자의 캐시를 모든 인스턴스에서 무효화
+ */
+@Slf4j
+@Component
+public class MyApplicationCache implements MessageListener {
+
+	public static final String MY_APPLICATION_CHANNEL = "campaign:my-applications";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<Long, Map<String, MyApplicationPageResponse>> cache; // userId -> (cursor:size -> 페이지)
+
+	public MyApplicationCache(
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${campaign.my-applications.cache-ttl:30s}") Duration ttl
+	) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(10_000)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(MY_APPLICATION_CHANNEL));
+	}
+
+	public MyApplicationPageResponse get(Long userId, String cursor, int size, Supplier<MyApplicationPageResponse> loader) {
+		Map<String, MyApplicationPageResponse> pages = cache.get(userId, id -> new ConcurrentHashMap<>());
+		return pages.computeIfAbsent(cursor + ":" + size, key -> loader.get());
+	}
+
+	/**
+	 * 신청 내역이 저장된 사용자의 캐시를 모든 인스턴스에서 무효화한다. (저장 트랜잭션 커밋 이후 호출)
+	 */
+	public void invalidate(Collection<Long> userIds) {
+		if (userIds.isEmpty()) return;
+		cache.invalidateAll(userIds);
+		redisTemplate.convertAndSend(MY_APPLICATION_CHANNEL,
+			userIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody());
+		try {
+			for (String userId : body.split(",")) {
+				cache.invalidate(Long.valueOf(userId));
+			}
+		} catch (NumberFormatException e) {
+			log.warn("❗알 수 없는 신청 내역 캐시 메시지: {}", body);
+		}
+	}
+}
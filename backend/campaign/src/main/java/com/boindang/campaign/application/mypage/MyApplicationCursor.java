@@ -0,0 +1,39 @@
+package com.boindang.campaign.application.mypage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.boindang.campaign.common.exception.BadRequestException;
+import com.boindang.campaign.domain.model.MyApplicationRow;
+
+/**
+ * 내 신청 내역 페이지 커서 (신청 시각 내림차순, 같은 시각이면 id 내림차순)
+ */
+public record MyApplicationCursor(LocalDateTime appliedAt, Long applicationId) {
+
+	private static final String DELIMITER = "_";
+
+	public static MyApplicationCursor of(MyApplicationRow row) {
+		return new MyApplicationCursor(row.appliedAt(), row.applicationId());
+	}
+
+	public static MyApplicationCursor decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = decoded.lastIndexOf(DELIMITER);
+			return new MyApplicationCursor(
+				LocalDateTime.parse(decoded.substring(0, index)),
+				Long.valueOf(decoded.substring(index + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new BadRequestException("유효하지 않은 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		String raw = appliedAt + DELIMITER + applicationId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,142 @@
+package com.boindang.campaign.application.result;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.boindang.campaign.infrastructure.repository.CampaignApplicationRepository;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장이 끝난 신청 결과를 SSE 로 전송한다.
+ *
+ * - 구독은 연결된 인스턴스의 메모리에만 등록 (campaignId:userId -> emitter)
+ * - Kafka 컨슈머가 커밋한 결과를 Redis pub/sub 으로 모든 인스턴스에 전달하고,
+ *   구독자가 있는 인스턴스가 결과를 보낸 뒤 연결을 종료
+ * - 구독 전에 이미 저장된 경우를 위해 구독 직후 DB 를 한 번 확인
+ */
+@Slf4j
+@Component
+public class ApplyResultNotifier implements MessageListener {
+
+	public static final String APPLY_RESULT_CHANNEL = "campaign:apply-result";
+
+	private final CampaignApplicationRepository applicationRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final long timeoutMillis;
+
+	private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public ApplyResultNotifier(
+		CampaignApplicationRepository applicationRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${campaign.apply-result.sse-timeout:60s}") Duration timeout
+	) {
+		this.applicationRepository = applicationRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.timeoutMillis = timeout.toMillis();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(APPLY_RESULT_CHANNEL));
+	}
+
+	public SseEmitter subscribe(Long campaignId, Long userId) {
+		String key = key(campaignId, userId);
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		emitter.onCompletion(() -> remove(key, emitter));
+		emitter.onTimeout(() -> remove(key, emitter));
+		emitter.onError(e -> remove(key, emitter));
+		emitters.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+		// 등록 이후에 확인해야 그 사이 저장된 결과를 놓치지 않음
+		List<Boolean> saved = applicationRepository.findSelections(campaignId, userId);
+		if (!saved.isEmpty()) {
+			notify(key, new ApplyResultResponse(campaignId, saved.get(0)));
+		}
+		return emitter;
+	}
+
+	/**
+	 * 저장이 커밋된 신청 결과를 모든 인스턴스에 알린다. (메시지 하나에 "campaignId:userId:선정여부" 목록)
+	 */
+	public void publish(Collection<ApplyEvent> confirmed) {
+		if (confirmed.isEmpty()) return;
+		String body = confirmed.stream()
+			.map(event -> key(event.getCampaignId(), event.getUserId()) + ":" + (event.isSelected() ? 1 : 0))
+			.collect(Collectors.joining(","));
+		redisTemplate.convertAndSend(APPLY_RESULT_CHANNEL, body);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		if (emitters.isEmpty()) return;
+
+		String body = new String(message.getBody());
+		for (String entry : body.split(",")) {
+			// "campaignId:userId:선정여부" 형식이 아니면 건너뜀 (잘못된 메시지 하나로 리스너가 중단되지 않도록)
+			int index = entry.lastIndexOf(':');
+			int campaignEnd = entry.indexOf(':');
+			if (index < 0 || campaignEnd == index) {
+				log.warn("❗알 수 없는 신청 결과 메시지: {}", entry);
+				continue;
+			}
+			String key = entry.substring(0, index);
+			if (!emitters.containsKey(key)) continue;
+
+			try {
+				Long campaignId = Long.valueOf(key.substring(0, campaignEnd));
+				notify(key, new ApplyResultResponse(campaignId, entry.endsWith(":1")));
+			} catch (NumberFormatException e) {
+				log.warn("❗알 수 없는 신청 결과 메시지: {}", entry);
+			}
+		}
+	}
+
+	private void notify(String key, ApplyResultResponse result) {
+		Set<SseEmitter> subscribers = emitters.remove(key);
+		if (subscribers == null) return;
+
+		for (SseEmitter emitter : subscribers) {
+			try {
+				emitter.send(SseEmitter.event().name("result").data(result));
+				emitter.complete();
+			} catch (IOException | IllegalStateException e) {
+				emitter.completeWithError(e);
+			}
+		}
+	}
+
+	private void remove(String key, SseEmitter emitter) {
+		emitters.computeIfPresent(key, (k, subscribers) -> {
+			subscribers.remove(emitter);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	private static String key(Long campaignId, Long userId) {
+		return campaignId + ":" + userId;
+	}
+}
@@ -0,0 +1,218 @@
+package com.boindang.campaign.application.waiting;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.boindang.campaign.application.CampaignApplyService;
+import com.boindang.campaign.common.exception.BadRequestException;
+import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.common.exception.CampaignNotFoundException;
+import com.boindang.campaign.common.exception.DuplicateApplicationException;
+import com.boindang.campaign.domain.model.CampaignAdmission;
+import com.boindang.campaign.infrastructure.redis.RedisLock;
+import com.boindang.campaign.infrastructure.redis.WaitingRoomStore;
+import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
+import com.boindang.campaign.presentation.dto.response.WaitingTicketResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체험단 오픈 시 신청 폭주를 흡수하는 대기열
+ *
+ * - 신청자는 Redis 대기열에 번호표를 받고 바로 응답 (Tomcat 스레드/DB 커넥션 점유 없음)
+ * - 입장 처리기가 설정된 속도로 대기열에서 꺼내 기존 신청 경로(CampaignApplyService.apply)로 처리
+ * - 클라이언트는 상태 조회(polling) 또는 SSE 로 순번과 최종 결과를 받음
+ * - 입장 처리는 한 번에 한 인스턴스만, 직전 처리 시작 후 drain-interval 이 지난 뒤에만 수행 (인스턴스 수와 무관한 입장 속도)
+ */
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+	private static final String WAITING = "WAITING";
+	private static final String NONE = "NONE";
+	private static final String REJECTED = "REJECTED";
+	private static final String DRAIN_LOCK_KEY = "apply:queue:drain-lock"; // 인스턴스 간 입장 처리 락
+	private static final long SSE_TIMEOUT_MILLIS = Duration.ofMinutes(10).toMillis();
+
+	private final CampaignApplyService applyService;
+	private final WaitingRoomStore waitingRoomStore;
+	private final RedisLock redisLock;
+	private final boolean enabled;
+	private final int admitRatePerSecond;
+	private final long drainIntervalMillis;
+	private final Duration drainLockLease;
+	private final Duration resultTtl;
+
+	private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+	public WaitingRoomService(
+		CampaignApplyService applyService,
+		WaitingRoomStore waitingRoomStore,
+		RedisLock redisLock,
+		@Value("${campaign.waiting-room.enabled:false}") boolean enabled,
+		@Value("${campaign.waiting-room.admit-rate-per-second:200}") int admitRatePerSecond,
+		@Value("${campaign.waiting-room.drain-interval:100}") long drainIntervalMillis,
+		@Value("${campaign.waiting-room.drain-lock-lease:10s}") Duration drainLockLease,
+		@Value("${campaign.waiting-room.result-ttl:1h}") Duration resultTtl
+	) {
+		this.applyService = applyService;
+		this.waitingRoomStore = waitingRoomStore;
+		this.redisLock = redisLock;
+		this.enabled = enabled;
+		this.admitRatePerSecond = admitRatePerSecond;
+		this.drainIntervalMillis = drainIntervalMillis;
+		this.drainLockLease = drainLockLease;
+		this.resultTtl = resultTtl;
+	}
+
+	public WaitingTicketResponse enter(Long campaignId, Long userId) {
+		requireEnabled();
+
+		WaitingTicketResponse current = status(campaignId, userId);
+		if (!NONE.equals(current.status())) return current;
+
+		// 마감/정원 초과는 줄 세우지 않고 바로 거절
+		CampaignAdmission admission = applyService.checkAdmission(campaignId);
+		// 조회 이후 입장 처리 중/결과 저장으로 바뀐 경우에도 다시 줄 세우지 않도록 Redis 에서 조건부로 추가
+		waitingRoomStore.enqueue(campaignId, userId,
+			Duration.between(LocalDateTime.now(ZoneId.of("Asia/Seoul")), admission.endDate()));
+		return status(campaignId, userId);
+	}
+
+	public WaitingTicketResponse status(Long campaignId, Long userId) {
+		requireEnabled();
+
+		String result = waitingRoomStore.result(campaignId, userId);
+		if (result != null) {
+			if (result.startsWith(REJECTED + ":")) {
+				return new WaitingTicketResponse(campaignId, REJECTED, null, result.substring(REJECTED.length() + 1));
+			}
+			return new WaitingTicketResponse(campaignId, result, null, null);
+		}
+
+		Long position = waitingRoomStore.position(campaignId, userId);
+		if (position != null) {
+			return new WaitingTicketResponse(campaignId, WAITING, position, null);
+		}
+		// 대기열에서 꺼내져 신청 처리 중 (순번 0)
+		if (waitingRoomStore.isInFlight(campaignId, userId)) {
+			return new WaitingTicketResponse(campaignId, WAITING, 0L, null);
+		}
+		return new WaitingTicketResponse(campaignId, NONE, null, null);
+	}
+
+	public SseEmitter subscribe(Long campaignId, Long userId) {
+		requireEnabled();
+
+		String key = campaignId + ":" + userId;
+		SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+		emitter.onCompletion(() -> emitters.remove(key, emitter));
+		emitter.onTimeout(() -> emitters.remove(key, emitter));
+		emitter.onError(e -> emitters.remove(key, emitter));
+
+		SseEmitter previous = emitters.put(key, emitter);
+		if (previous != null) previous.complete();
+
+		push(key, emitter);
+		return emitter;
+	}
+
+	/**
+	 * 대기열에서 설정된 속도만큼 꺼내 기존 신청 경로로 처리한다.
+	 */
+	public void drain() {
+		if (!enabled) return;
+		// 임대 시간은 최악의 처리 시간보다 넉넉하게 잡아, 처리 도중 만료되어 다른 인스턴스가 동시에 처리하지 않도록 함
+		Optional<String> token = redisLock.tryAcquire(DRAIN_LOCK_KEY, drainLockLease);
+		if (token.isEmpty()) return;
+
+		long start = System.nanoTime();
+		try {
+			Set<Long> campaignIds = waitingRoomStore.activeCampaigns();
+			if (campaignIds.isEmpty()) return;
+
+			long permits = Math.max(1, admitRatePerSecond * drainIntervalMillis / 1000);
+			long perCampaign = Math.max(1, permits / campaignIds.size());
+
+			for (Long campaignId : campaignIds) {
+				for (Long userId : waitingRoomStore.pop(campaignId, perCampaign, resultTtl)) {
+					Optional<String> result = admit(campaignId, userId);
+					waitingRoomStore.saveResult(campaignId, userId,
+						result.orElse(REJECTED + ":이미 신청하신 체험단입니다."), resultTtl, result.isEmpty());
+				}
+				waitingRoomStore.deactivateIfEmpty(campaignId);
+			}
+		} finally {
+			// 다음 처리는 이번 처리 시작 후 drain-interval 이 지난 뒤에만 (처리가 더 오래 걸렸으면 바로 해제)
+			long remainingMillis = drainIntervalMillis - Duration.ofNanos(System.nanoTime() - start).toMillis();
+			if (remainingMillis > 0) {
+				redisLock.renew(DRAIN_LOCK_KEY, token.get(), Duration.ofMillis(remainingMillis));
+			} else {
+				redisLock.release(DRAIN_LOCK_KEY, token.get());
+			}
+		}
+	}
+
+	/**
+	 * 이 인스턴스에 연결된 SSE 구독자에게 순번/결과를 전송한다.
+	 */
+	public void pushUpdates() {
+		emitters.forEach(this::push);
+	}
+
+	/**
+	 * @return 저장할 처리 결과 (이미 신청한 사용자면 empty, 기존 결과를 유지)
+	 */
+	private Optional<String> admit(Long campaignId, Long userId) {
+		try {
+			ApplyResultResponse result = applyService.apply(campaignId, userId);
+			return Optional.of(result.isSelected() ? "SELECTED" : "WAITLISTED");
+		} catch (DuplicateApplicationException e) {
+			return Optional.empty();
+		} catch (CampaignException | BadRequestException | CampaignNotFoundException e) {
+			return Optional.of(REJECTED + ":" + e.getMessage());
+		} catch (Exception e) {
+			log.error("❗대기열 입장 처리 중 예외 발생: campaignId={}, userId={}", campaignId, userId, e);
+			return Optional.of(REJECTED + ":신청 처리 중 오류가 발생했습니다.");
+		}
+	}
+
+	private void push(String key, SseEmitter emitter) {
+		String[] ids = key.split(":");
+		WaitingTicketResponse ticket = status(Long.valueOf(ids[0]), Long.valueOf(ids[1]));
+		try {
+			emitter.send(SseEmitter.event().name("waiting").data(ticket));
+			if (!WAITING.equals(ticket.status())) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			emitters.remove(key, emitter);
+		}
+	}
+
+	/**
+	 * 대기열 모드에서는 신청 API 를 직접 호출해 줄을 건너뛰지 못하도록 거절한다.
+	 * (대기열 입장 처리기는 CampaignApplyService.apply 를 직접 호출하므로 영향 없음)
+	 */
+	public void rejectIfEnabled() {
+		if (enabled) {
+			throw new BadRequestException("대기열 모드에서는 대기열 입장 후 순서대로 신청됩니다.");
+		}
+	}
+
+	private void requireEnabled() {
+		if (!enabled) {
+			throw new BadRequestException("대기열 모드가 활성화되어 있지 않습니다.");
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.boindang.campaign.common.exception;
+
+// 이미 신청한 체험단 (대기열 처리 시 기존 결과를 덮어쓰지 않도록 구분)
+public class DuplicateApplicationException extends CampaignException {
+
+    public DuplicateApplicationException(String message) {
+        super(message);
+    }
+}
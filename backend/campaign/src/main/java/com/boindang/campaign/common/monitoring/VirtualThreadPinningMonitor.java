@@ -0,0 +1,73 @@
+package com.boindang.campaign.common.monitoring;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 pinning 진단
+ *
+ * - synchronized 블록 안에서 블로킹되어 캐리어 스레드를 붙잡는 경우 JFR jdk.VirtualThreadPinned 이벤트가 발생
+ * - JDBC(Connector/J, HikariCP), Lettuce 경로에서 발생한 pinning 을 프레임 단위로 로그/지표에 남김
+ *   (campaign.virtual-thread.pinned{frame=최초 발생 클래스})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${campaign.virtual-thread.pinned-threshold:20ms}")
+	private Duration threshold;
+
+	private RecordingStream stream;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::record);
+		stream.startAsync();
+		log.info("🧵 가상 스레드 pinning 모니터 시작 (threshold={})", threshold);
+	}
+
+	private void record(RecordedEvent event) {
+		String frame = pinnedFrame(event);
+		meterRegistry.counter("campaign.virtual-thread.pinned", "frame", frame).increment();
+		log.warn("❗가상 스레드 pinning {}ms at {}\n{}", event.getDuration().toMillis(), frame, event.getStackTrace());
+	}
+
+	// JDK 내부 프레임을 건너뛴 첫 번째 라이브러리/애플리케이션 클래스 (지표 태그 수를 제한하기 위해 클래스 단위)
+	private String pinnedFrame(RecordedEvent event) {
+		if (event.getStackTrace() == null) return "unknown";
+		for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+			String type = frame.getMethod().getType().getName();
+			if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+				return type;
+			}
+		}
+		return "jdk";
+	}
+
+	@Override
+	public void destroy() {
+		if (stream != null) stream.close();
+	}
+}
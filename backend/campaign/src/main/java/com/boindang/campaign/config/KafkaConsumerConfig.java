@@ -0,0 +1,85 @@
+package com.boindang.campaign.config;
+
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventDeserializer;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+	// 역직렬화 실패 메시지는 재시도 없이 건너뛰도록 ErrorHandlingDeserializer 로 감쌈
+	// 컨슈머 클라이언트 지표(파티션별 lag: kafka.consumer.fetch.manager.records.lag)는 Micrometer 로 노출
+	@Bean
+	public ConsumerFactory<String, ApplyEvent> applyEventConsumerFactory(
+		KafkaProperties kafkaProperties,
+		SslBundles sslBundles,
+		MeterRegistry meterRegistry
+	) {
+		DefaultKafkaConsumerFactory<String, ApplyEvent> factory = new DefaultKafkaConsumerFactory<>(
+			kafkaProperties.buildConsumerProperties(sslBundles),
+			new StringDeserializer(), new ErrorHandlingDeserializer<>(new ApplyEventDeserializer()));
+		factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+		return factory;
+	}
+
+	/**
+	 * 메시지 단건 리스너용 컨테이너 팩토리
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, ApplyEvent> applyEventListenerContainerFactory(
+		ConsumerFactory<String, ApplyEvent> applyEventConsumerFactory,
+		Environment environment
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ApplyEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(applyEventConsumerFactory);
+		applyThreading(factory, environment);
+		return factory;
+	}
+
+	/**
+	 * poll 단위(List)로 메시지를 받는 배치 리스너용 컨테이너 팩토리
+	 * - 파티션은 컨테이너 스레드 하나에만 할당되므로 같은 체험단(key) 이벤트는 항상 순서대로 처리됨
+	 * - concurrency 가 파티션 수보다 크면 남는 스레드는 유휴 상태가 됨
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, ApplyEvent> batchListenerContainerFactory(
+		ConsumerFactory<String, ApplyEvent> applyEventConsumerFactory,
+		@Value("${campaign.kafka.consumer.concurrency:1}") int concurrency,
+		Environment environment
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ApplyEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(applyEventConsumerFactory);
+		factory.setBatchListener(true);
+		factory.setConcurrency(concurrency);
+		applyThreading(factory, environment);
+		return factory;
+	}
+
+	/**
+	 * spring.threads.virtual.enabled=true 이고 JRE 21 이상인 경우 리스너 컨테이너를 가상 스레드에서 실행
+	 * (자동 구성되는 kafkaListenerContainerFactory 와 같은 기준, JRE 17 에서는 기존 플랫폼 스레드 유지)
+	 */
+	private void applyThreading(ConcurrentKafkaListenerContainerFactory<String, ApplyEvent> factory, Environment environment) {
+		if (!Threading.VIRTUAL.isActive(environment)) return;
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("apply-kafka-");
+		executor.setVirtualThreads(true);
+		factory.getContainerProperties().setListenerTaskExecutor(executor);
+	}
+}
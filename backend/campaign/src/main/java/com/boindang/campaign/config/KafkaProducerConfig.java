@@ -0,0 +1,54 @@
+package com.boindang.campaign.config;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventSerializer;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class KafkaProducerConfig {
+
+	// 문자열 메시지용 (테스트 토픽)
+	@Bean
+	public ProducerFactory<String, String> producerFactory(KafkaProperties kafkaProperties, SslBundles sslBundles) {
+		return new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(sslBundles),
+			new StringSerializer(), new StringSerializer());
+	}
+
+	@Bean
+	public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+		return new KafkaTemplate<>(producerFactory);
+	}
+
+	// 체험단 신청 이벤트용 (key: campaignId, value: 고정 길이 바이너리)
+	@Bean
+	public ProducerFactory<String, ApplyEvent> applyEventProducerFactory(
+		KafkaProperties kafkaProperties,
+		SslBundles sslBundles,
+		MeterRegistry meterRegistry
+	) {
+		Map<String, Object> props = kafkaProperties.buildProducerProperties(sslBundles);
+		DefaultKafkaProducerFactory<String, ApplyEvent> factory =
+			new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new ApplyEventSerializer());
+		// 배치 크기, 요청 지연 등 프로듀서 클라이언트 지표 노출
+		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+		return factory;
+	}
+
+	@Bean
+	public KafkaTemplate<String, ApplyEvent> applyEventKafkaTemplate(ProducerFactory<String, ApplyEvent> applyEventProducerFactory) {
+		return new KafkaTemplate<>(applyEventProducerFactory);
+	}
+}
@@ -0,0 +1,28 @@
+package com.boindang.campaign.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+	/**
+	 * 체험단 신청 토픽 (campaignId 를 key 로 파티셔닝)
+	 * - 같은 체험단 이벤트는 항상 같은 파티션 -> 파티션 하나는 컨슈머 스레드 하나가 순서대로 처리
+	 * - 파티션 수만큼 리스너 concurrency 를 늘리면 처리량이 선형으로 증가
+	 * - 기존 토픽의 파티션이 더 적으면 KafkaAdmin 이 기동 시 파티션을 추가함
+	 */
+	@Bean
+	public NewTopic applyCampaignTopic(
+		@Value("${campaign.kafka.topic.partitions:6}") int partitions,
+		@Value("${campaign.kafka.topic.replicas:1}") short replicas
+	) {
+		return TopicBuilder.name("apply-campaign")
+			.partitions(partitions)
+			.replicas(replicas)
+			.build();
+	}
+}
@@ -0,0 +1,44 @@
+package com.boindang.campaign.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+/**
+ * Kafka 발행에 실패한 신청 이벤트 (relay 가 재발행 후 삭제)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApplyEventOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long campaignId;
+    private Long userId;
+    private boolean isSelected;
+    private LocalDateTime appliedAt;
+    private LocalDateTime createdAt;
+
+    public static ApplyEventOutbox from(ApplyEvent event) {
+        ApplyEventOutbox outbox = new ApplyEventOutbox();
+        outbox.campaignId = event.getCampaignId();
+        outbox.userId = event.getUserId();
+        outbox.isSelected = event.isSelected();
+        outbox.appliedAt = event.getAppliedAt();
+        outbox.createdAt = LocalDateTime.now();
+        return outbox;
+    }
+
+    public ApplyEvent toEvent() {
+        return new ApplyEvent(campaignId, userId, isSelected, appliedAt);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.boindang.campaign.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Redis 선착순 신청 스크립트의 처리 결과
+ */
+public enum ApplyOutcome {
+	SELECTED(0),    // 정원 내 선정
+	WAITLISTED(1),  // 정원 초과 (신청 내역만 저장)
+	DUPLICATE(2),   // 이미 신청한 사용자
+	CLOSED(3);      // 마감된 체험단
+
+	private final long code;
+
+	ApplyOutcome(long code) {
+		this.code = code;
+	}
+
+	public boolean isSelected() {
+		return this == SELECTED;
+	}
+
+	public static ApplyOutcome of(Long code) {
+		return Arrays.stream(values())
+			.filter(outcome -> code != null && outcome.code == code)
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("알 수 없는 신청 처리 결과입니다: " + code));
+	}
+}
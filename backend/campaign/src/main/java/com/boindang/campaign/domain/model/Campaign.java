@@ -11,9 +11,10 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.application.listing.CampaignListingEntityListener;
 
 @Entity
+@EntityListeners(CampaignListingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Campaign {
@@ -29,7 +30,8 @@ public class Campaign {
     private String mainCategory;          // 제품 대분류
     private String subCategory;          // 제품 소분류
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // 목록은 CampaignListingReader 가 해시태그를 일괄 조회하므로 엔티티 조회 시에는 불러오지 않음
+    @ElementCollection
     @CollectionTable(name = "campaign_hashtags", joinColumns = @JoinColumn(name = "campaign_id"))
     @Column(name = "hashtag")
     private List<String> hashtags = new ArrayList<>();
@@ -86,12 +88,5 @@ public class Campaign {
         return newStatus;
     }
 
-    public void increaseApplicant() {
-        if (currentApplicants >= capacity) {
-            throw new CampaignException("모집 정원이 마감되었습니다.");
-        }
-        this.currentApplicants++;
-    }
-
 }
 
@@ -0,0 +1,30 @@
+package com.boindang.campaign.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체험단 신청 가능 여부 판단에 필요한 최소 상태
+ */
+public record CampaignAdmission(
+	Long campaignId,
+	int capacity,
+	LocalDateTime startDate,
+	LocalDateTime endDate,
+	boolean soldOut
+) {
+
+	public CampaignAdmission(Long campaignId, int capacity, int currentApplicants, LocalDateTime startDate, LocalDateTime endDate) {
+		this(campaignId, capacity, startDate, endDate, currentApplicants >= capacity);
+	}
+
+	// Campaign.calculateStatus 와 동일한 기준
+	public CampaignStatus statusAt(LocalDateTime now) {
+		if (now.isBefore(startDate)) return CampaignStatus.PENDING;
+		if (now.isAfter(endDate)) return CampaignStatus.CLOSED;
+		return CampaignStatus.OPEN;
+	}
+
+	public CampaignAdmission toSoldOut() {
+		return new CampaignAdmission(campaignId, capacity, startDate, endDate, true);
+	}
+}
@@ -0,0 +1,11 @@
+package com.boindang.campaign.domain.model;
+
+/**
+ * 정합성 점검용 신청 내역 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record CampaignApplicant(
+	Long applicationId,
+	Long userId,
+	boolean selected
+) {
+}
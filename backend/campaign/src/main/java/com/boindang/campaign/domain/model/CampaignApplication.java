@@ -12,6 +12,8 @@ import com.boindang.campaign.presentation.dto.response.ApplyEvent;
 import jakarta.persistence.Id;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_campaign_application_campaign_user", columnNames = {"campaign_id", "user_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CampaignApplication {
@@ -33,7 +35,7 @@ public class CampaignApplication {
         app.campaign = campaign;
         app.userId = event.getUserId();
         app.isSelected = event.isSelected();
-        app.appliedAt = LocalDateTime.now();
+        app.appliedAt = event.getAppliedAt() != null ? event.getAppliedAt() : LocalDateTime.now();
         return app;
     }
 
@@ -0,0 +1,7 @@
+package com.boindang.campaign.domain.model;
+
+public record CampaignHashtag(
+	Long campaignId,
+	String hashtag
+) {
+}
@@ -0,0 +1,18 @@
+package com.boindang.campaign.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체험단 목록에 필요한 컬럼만 조회한 결과 (해시태그는 CampaignHashtag 로 따로 일괄 조회)
+ */
+public record CampaignSummaryRow(
+	Long id,
+	String name,
+	String description,
+	String imageUrl,
+	LocalDateTime startDate,
+	LocalDateTime endDate,
+	int capacity,
+	CampaignStatus status
+) {
+}
@@ -0,0 +1,15 @@
+package com.boindang.campaign.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 신청 내역 화면에 필요한 컬럼만 조회한 결과 (applicationId 는 커서용)
+ */
+public record MyApplicationRow(
+	Long applicationId,
+	Long campaignId,
+	String title,
+	boolean isSelected,
+	LocalDateTime appliedAt
+) {
+}
@@ -0,0 +1,63 @@
+package com.boindang.campaign.infrastructure.kafka.consumer;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.application.CampaignSaveService;
+import com.boindang.campaign.application.mypage.MyApplicationCache;
+import com.boindang.campaign.application.result.ApplyResultNotifier;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "campaign.kafka.consumer.batch-enabled", havingValue = "true")
+public class KafkaBatchConsumer {
+
+	private final CampaignSaveService saveService;
+	private final MyApplicationCache myApplicationCache;
+	private final ApplyResultNotifier applyResultNotifier;
+	private final MeterRegistry meterRegistry;
+
+	@KafkaListener(
+		topics = "apply-campaign",
+		groupId = "campaign-group",
+		containerFactory = "batchListenerContainerFactory",
+		properties = "max.poll.records=${campaign.kafka.consumer.batch-size:500}"
+	)
+	public void consume(List<ConsumerRecord<String, ApplyEvent>> records) {
+		log.info("📥 Kafka 배치 수신됨: {}건", records.size());
+		meterRegistry.summary("campaign.consumer.batch.size").record(records.size());
+
+		// 역직렬화 불가 메시지(value = null)는 재시도해도 실패하므로 건너뜀
+		List<ApplyEvent> events = records.stream()
+			.map(ConsumerRecord::value)
+			.filter(Objects::nonNull)
+			.toList();
+		if (events.size() < records.size()) {
+			log.error("❗메시지 역직렬화 실패, {}건 건너뜀", records.size() - events.size());
+		}
+
+		try {
+			List<ApplyEvent> confirmed = meterRegistry.timer("campaign.consumer.save", "mode", "batch")
+				.record(() -> saveService.saveAll(events));
+			// 커밋 이후 신청 내역이 바뀐 사용자의 마이페이지 캐시 무효화, 결과 대기 중인 SSE 구독자에게 전송
+			myApplicationCache.invalidate(confirmed.stream().map(ApplyEvent::getUserId).distinct().toList());
+			applyResultNotifier.publish(confirmed);
+			log.info("✅ Campaign 신청 배치 저장 성공: {}건", events.size());
+		} catch (Exception e) {
+			log.error("❗Kafka 배치 소비 중 예외 발생", e);
+			throw new KafkaException("Kafka 배치 소비 중 예외가 발생하였습니다.");
+		}
+	}
+}
@@ -1,33 +1,51 @@
 package com.boindang.campaign.infrastructure.kafka.consumer;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import com.boindang.campaign.application.CampaignSaveService;
+import com.boindang.campaign.application.mypage.MyApplicationCache;
+import com.boindang.campaign.application.result.ApplyResultNotifier;
 import com.boindang.campaign.presentation.dto.response.ApplyEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "campaign.kafka.consumer.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class KafkaConsumer {
 
 	private final CampaignSaveService saveService;
-	private final ObjectMapper objectMapper;
-
-	@KafkaListener(topics = "apply-campaign", groupId = "campaign-group")
-	public void consume(String message) {
-		log.info("📥 Kafka 메시지 수신됨: {}", message);
+	private final MyApplicationCache myApplicationCache;
+	private final ApplyResultNotifier applyResultNotifier;
+	private final MeterRegistry meterRegistry;
+
+	@KafkaListener(
+		topics = "apply-campaign",
+		groupId = "campaign-group",
+		containerFactory = "applyEventListenerContainerFactory",
+		concurrency = "${campaign.kafka.consumer.concurrency:1}"
+	)
+	public void consume(ApplyEvent event) {
+		log.info("📥 Kafka 메시지 수신됨: {}", event);
 
 		try {
-			ApplyEvent event = objectMapper.readValue(message, ApplyEvent.class);
-			log.info("✅ 메시지 역직렬화 완료: {}", event);
-
-			saveService.save(event);
+			Optional<ApplyEvent> confirmed = meterRegistry.timer("campaign.consumer.save", "mode", "single")
+				.record(() -> saveService.save(event));
+			if (confirmed.isEmpty()) {
+				log.info("⏭️ 이미 저장된 신청 이벤트 건너뜀: campaignId={}, userId={}", event.getCampaignId(), event.getUserId());
+				return;
+			}
+			myApplicationCache.invalidate(List.of(event.getUserId()));
+			applyResultNotifier.publish(List.of(confirmed.get()));
 			log.info("✅ Campaign 신청 저장 성공: campaignId={}, userId={}", event.getCampaignId(), event.getUserId());
 
 		} catch (Exception e) {
@@ -36,4 +54,3 @@ public class KafkaConsumer {
 		}
 	}
 }
-
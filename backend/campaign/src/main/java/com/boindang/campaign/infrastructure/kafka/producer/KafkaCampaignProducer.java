@@ -1,29 +1,99 @@
 package com.boindang.campaign.infrastructure.kafka.producer;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
-import com.boindang.campaign.common.exception.CampaignException;
-import com.boindang.campaign.common.exception.KafkaException;
+import com.boindang.campaign.domain.model.ApplyEventOutbox;
+import com.boindang.campaign.infrastructure.repository.ApplyEventOutboxRepository;
 import com.boindang.campaign.presentation.dto.response.ApplyEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 체험단 신청 이벤트 비동기 발행
+ *
+ * - 요청 스레드는 브로커 응답(ack)을 기다리지 않음 (linger/batch 로 묶어서 전송)
+ * - 발행 결과는 콜백으로 받아 성공/실패 지표를 기록
+ * - 실패한 이벤트는 outbox 테이블에 저장하고 ApplyEventOutboxRelay 가 재발행
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class KafkaCampaignProducer {
 
-	private final KafkaTemplate<String, String> kafkaTemplate;
-	private final ObjectMapper objectMapper;
+	// value 는 ApplyEventSerializer 로 바로 바이너리 직렬화 (JSON 문자열 변환 단계 없음)
+	private final KafkaTemplate<String, ApplyEvent> applyEventKafkaTemplate;
+	private final ApplyEventOutboxRepository outboxRepository;
+	private final Executor outboxExecutor;
+
+	private final Counter successCounter;
+	private final Counter failureCounter;
+	private final Timer ackTimer;
+
+	public KafkaCampaignProducer(
+		KafkaTemplate<String, ApplyEvent> applyEventKafkaTemplate,
+		ApplyEventOutboxRepository outboxRepository,
+		@Qualifier("applicationTaskExecutor") Executor outboxExecutor,
+		MeterRegistry meterRegistry
+	) {
+		this.applyEventKafkaTemplate = applyEventKafkaTemplate;
+		this.outboxRepository = outboxRepository;
+		this.outboxExecutor = outboxExecutor;
+		this.successCounter = meterRegistry.counter("campaign.kafka.publish", "result", "success");
+		this.failureCounter = meterRegistry.counter("campaign.kafka.publish", "result", "failure");
+		this.ackTimer = meterRegistry.timer("campaign.kafka.publish.ack");
+	}
 
+	/**
+	 * 발행 실패 시 outbox 에 저장하는 비동기 발행 (요청 경로용)
+	 */
 	public void send(String topic, ApplyEvent event) {
+		publish(topic, event).whenComplete((result, ex) -> {
+			if (ex != null) {
+				// 콜백은 producer I/O 스레드에서 실행되므로 DB 저장은 별도 스레드에서 수행
+				outboxExecutor.execute(() -> saveToOutbox(event, ex));
+			}
+		});
+	}
+
+	/**
+	 * outbox 저장 없이 발행 결과만 돌려준다. (relay 재발행용)
+	 */
+	public CompletableFuture<SendResult<String, ApplyEvent>> publish(String topic, ApplyEvent event) {
+		long start = System.nanoTime();
+		CompletableFuture<SendResult<String, ApplyEvent>> future;
+		try {
+			// campaignId 를 key 로 보내 같은 체험단 이벤트의 파티션(=처리 순서)을 고정
+			future = applyEventKafkaTemplate.send(topic, String.valueOf(event.getCampaignId()), event);
+		} catch (Exception e) {
+			// 메타데이터 조회 실패, 버퍼 초과 등 send 호출 자체가 실패한 경우
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		return future.whenComplete((result, ex) -> {
+			ackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			if (ex == null) {
+				successCounter.increment();
+			} else {
+				failureCounter.increment();
+			}
+		});
+	}
+
+	private void saveToOutbox(ApplyEvent event, Throwable cause) {
 		try {
-			String json = objectMapper.writeValueAsString(event);
-			kafkaTemplate.send(topic, json);
-		} catch (JsonProcessingException e) {
-			throw new KafkaException("❗Kafka 이벤트 전송 중 오류가 발생했습니다.");
+			outboxRepository.save(ApplyEventOutbox.from(event));
+			log.warn("❗Kafka 발행 실패, outbox 저장: {}", event, cause);
+		} catch (Exception e) {
+			log.error("❗Kafka 발행 실패 이벤트 outbox 저장 실패 (유실): {}", event, e);
 		}
 	}
 }
@@ -0,0 +1,48 @@
+package com.boindang.campaign.infrastructure.kafka.serde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link ApplyEventSerializer} 포맷 역직렬화
+ * - 배포 전환 중 토픽에 남아있는 이전 JSON 메시지('{' 로 시작)도 읽을 수 있도록 처리
+ */
+public class ApplyEventDeserializer implements Deserializer<ApplyEvent> {
+
+	private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+	@Override
+	public ApplyEvent deserialize(String topic, byte[] data) {
+		if (data == null) return null;
+		if (data.length > 0 && data[0] == '{') return readLegacyJson(data);
+
+		if (data.length != ApplyEventSerializer.SIZE || data[0] != ApplyEventSerializer.VERSION) {
+			throw new SerializationException("지원하지 않는 ApplyEvent 포맷입니다. (length=" + data.length + ")");
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+		long campaignId = buffer.getLong();
+		long userId = buffer.getLong();
+		boolean selected = (buffer.get() & 1) == 1;
+		long appliedAt = buffer.getLong();
+
+		return new ApplyEvent(campaignId, userId, selected,
+			appliedAt == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(appliedAt), ApplyEventSerializer.ZONE));
+	}
+
+	private ApplyEvent readLegacyJson(byte[] data) {
+		try {
+			return LEGACY_MAPPER.readValue(data, ApplyEvent.class);
+		} catch (IOException e) {
+			throw new SerializationException("ApplyEvent JSON 역직렬화에 실패했습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.boindang.campaign.infrastructure.kafka.serde;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+/**
+ * ApplyEvent 고정 길이 바이너리 직렬화 (26 bytes, big-endian)
+ *
+ * <pre>
+ * [0]      schema version (1)
+ * [1..8]   campaignId
+ * [9..16]  userId
+ * [17]     flags (bit0 = selected)
+ * [18..25] appliedAt (epoch millis, Asia/Seoul 기준)
+ * </pre>
+ */
+public class ApplyEventSerializer implements Serializer<ApplyEvent> {
+
+	public static final byte VERSION = 1;
+	public static final int SIZE = 26;
+	static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	@Override
+	public byte[] serialize(String topic, ApplyEvent event) {
+		if (event == null) return null;
+
+		long appliedAt = event.getAppliedAt() == null ? 0L : event.getAppliedAt().atZone(ZONE).toInstant().toEpochMilli();
+		return ByteBuffer.allocate(SIZE)
+			.put(VERSION)
+			.putLong(event.getCampaignId())
+			.putLong(event.getUserId())
+			.put((byte)(event.isSelected() ? 1 : 0))
+			.putLong(appliedAt)
+			.array();
+	}
+}
@@ -0,0 +1,50 @@
+package com.boindang.campaign.infrastructure.redis;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.application.listing.CampaignListing;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignListingRedisStore {
+
+	public static final String LISTING_KEY = "campaign:listing"; // 정렬된 목록 스냅샷 (JSON)
+	public static final String LISTING_CHANNEL = "campaign:listing:changed"; // 변경된 체험단 ID 알림 채널
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public void save(List<CampaignListing> listings) {
+		try {
+			redisTemplate.opsForValue().set(LISTING_KEY, objectMapper.writeValueAsString(listings));
+		} catch (Exception e) {
+			// Redis 저장 실패는 메모리 인덱스에 영향을 주지 않음
+			log.warn("❗체험단 목록 스냅샷 Redis 저장 실패", e);
+		}
+	}
+
+	public Optional<List<CampaignListing>> load() {
+		try {
+			String json = redisTemplate.opsForValue().get(LISTING_KEY);
+			if (json == null) return Optional.empty();
+			return Optional.of(objectMapper.readValue(json, new TypeReference<List<CampaignListing>>() {}));
+		} catch (Exception e) {
+			log.warn("❗체험단 목록 스냅샷 Redis 조회 실패", e);
+			return Optional.empty();
+		}
+	}
+
+	public void publishChange(Long campaignId) {
+		redisTemplate.convertAndSend(LISTING_CHANNEL, campaignId.toString());
+	}
+}
@@ -0,0 +1,36 @@
+package com.boindang.campaign.infrastructure.redis;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.scheduler.CampaignListingScheduler;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다른 인스턴스에서 생성/수정된 체험단을 로컬 목록 인덱스에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignListingSubscriber implements MessageListener {
+
+	private final RedisMessageListenerContainer listenerContainer;
+	private final CampaignListingScheduler listingScheduler;
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CampaignListingRedisStore.LISTING_CHANNEL));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Long campaignId = Long.valueOf(new String(message.getBody()));
+		listingScheduler.refresh(campaignId);
+	}
+}
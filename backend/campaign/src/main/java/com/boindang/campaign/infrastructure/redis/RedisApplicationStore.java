@@ -1,11 +1,24 @@
 package com.boindang.campaign.infrastructure.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.domain.model.ApplyOutcome;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,29 +26,157 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RedisApplicationStore {
 
+	// 중복 확인 + 정원 확인 + 카운트 + TTL 을 한 번의 왕복으로 처리 (EVALSHA)
+	private static final RedisScript<Long> ADMISSION_SCRIPT = createScript("scripts/apply-admission.lua");
+	private static final RedisScript<Long> RECONCILE_COUNT_SCRIPT = createScript("scripts/reconcile-count.lua");
+
 	private final StringRedisTemplate redisTemplate;
 
-	public boolean tryApply(Long campaignId, Long userId, long limit, Duration ttl) {
+	public ApplyOutcome tryApply(Long campaignId, Long userId, long limit, Duration ttl) {
 		String userKey = "apply:users:" + campaignId; // 중복 신청 방지용 Set
-		String countKey = "apply:count:" + campaignId; // 신청 인원 카운트 Key
+		String countKey = "apply:count:" + campaignId; // 선정 인원 카운트 Key
+		String selectedKey = "apply:selected:" + campaignId; // 선정된 사용자 Set
+
+		// ttl 이 없거나 이미 지난 경우 스크립트에서 CLOSED 로 처리
+		long ttlMillis = ttl == null ? 0L : ttl.toMillis();
+
+		Long code = redisTemplate.execute(
+			ADMISSION_SCRIPT,
+			List.of(userKey, countKey, selectedKey),
+			userId.toString(), String.valueOf(limit), String.valueOf(ttlMillis)
+		);
+		return ApplyOutcome.of(code);
+	}
+
+	/**
+	 * 여러 체험단에 대한 사용자의 신청 여부를 파이프라인 한 번으로 조회한다. (EXISTS + SMISMEMBER)
+	 *
+	 * @return Redis 에 신청자 Set 이 존재하는 체험단만 담긴 (campaignId -> 신청 여부) Map
+	 *         (Set 이 없는 체험단은 만료/미신청 구분이 불가능하므로 DB 확인이 필요)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Long, Boolean> findApplied(List<Long> campaignIds, Long userId) {
+		byte[] member = userId.toString().getBytes(StandardCharsets.UTF_8);
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Long campaignId : campaignIds) {
+				byte[] userKey = ("apply:users:" + campaignId).getBytes(StandardCharsets.UTF_8);
+				connection.keyCommands().exists(userKey);
+				connection.setCommands().sMIsMember(userKey, member);
+			}
+			return null;
+		});
 
-		// 1. ttl 유효성 체크 (체험단이 이미 마감된 경우 예외처리)
-		if (ttl == null || ttl.isNegative() || ttl.isZero()) {
-			throw new CampaignException("현재 신청할 수 없는 체험단입니다.");
+		Map<Long, Boolean> applied = new HashMap<>();
+		for (int i = 0; i < campaignIds.size(); i++) {
+			if (!Boolean.TRUE.equals(results.get(i * 2))) continue;
+			List<Boolean> isMember = (List<Boolean>) results.get(i * 2 + 1);
+			applied.put(campaignIds.get(i), Boolean.TRUE.equals(isMember.get(0)));
 		}
+		return applied;
+	}
 
-		// 2. 중복 신청 여부 확인
-		Long added = redisTemplate.opsForSet().add(userKey, userId.toString());
-		if (added == 0L) {
-			throw new CampaignException("이미 신청하신 체험단입니다.");
+	/**
+	 * 신청자 Set 을 SSCAN 으로 나눠 읽는다. (SMEMBERS 처럼 한 번에 큰 응답을 만들지 않음)
+	 */
+	public Set<Long> scanApplicants(Long campaignId, int batchSize) {
+		Set<Long> userIds = new HashSet<>();
+		ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+		try (Cursor<String> cursor = redisTemplate.opsForSet().scan("apply:users:" + campaignId, options)) {
+			cursor.forEachRemaining(member -> userIds.add(Long.valueOf(member)));
 		}
+		return userIds;
+	}
+
+	/**
+	 * 누락된 신청자를 Set 에 일괄 추가한다. (SADD + PEXPIRE 를 파이프라인 한 번으로 전송)
+	 *
+	 * @param selectedUserIds userIds 중 DB 에 선정으로 저장된 사용자 (선정 Set 에도 추가)
+	 */
+	public void addApplicants(Long campaignId, Collection<Long> userIds, Collection<Long> selectedUserIds, Duration ttl) {
+		if (userIds.isEmpty()) return;
+		byte[] userKey = ("apply:users:" + campaignId).getBytes(StandardCharsets.UTF_8);
+		byte[] selectedKey = ("apply:selected:" + campaignId).getBytes(StandardCharsets.UTF_8);
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.setCommands().sAdd(userKey, toMembers(userIds));
+			connection.keyCommands().pExpire(userKey, ttl.toMillis());
+			if (!selectedUserIds.isEmpty()) {
+				connection.setCommands().sAdd(selectedKey, toMembers(selectedUserIds));
+				connection.keyCommands().pExpire(selectedKey, ttl.toMillis());
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * 선착순 스크립트가 선정(SELECTED)으로 처리한 사용자만 골라낸다. (SMISMEMBER 한 번)
+	 */
+	public Set<Long> findSelected(Long campaignId, Collection<Long> userIds) {
+		if (userIds.isEmpty()) return Set.of();
+		Map<Object, Boolean> isMember = redisTemplate.opsForSet()
+			.isMember("apply:selected:" + campaignId, userIds.stream().map(String::valueOf).toArray());
 
-		// 3. TTL 설정 (캠페인 마감 시점까지 캐시 유지)
-		redisTemplate.expire(userKey, ttl);
-		redisTemplate.expire(countKey, ttl);
+		Set<Long> selected = new HashSet<>();
+		isMember.forEach((member, selectedMember) -> {
+			if (Boolean.TRUE.equals(selectedMember)) selected.add(Long.valueOf((String) member));
+		});
+		return selected;
+	}
+
+	/**
+	 * 직전 점검에서 DB 에 없던 신청자를 이번 점검 결과로 교체하고, 직전 값을 돌려준다.
+	 * (인스턴스마다 메모리에 두면 다른 인스턴스가 점검할 때 "연속 두 번" 판단이 초기화되므로 Redis 에 보관)
+	 */
+	@SuppressWarnings("unchecked")
+	public Set<Long> replaceSuspectedLost(Long campaignId, Collection<Long> userIds, Duration ttl) {
+		byte[] suspectKey = ("apply:reconcile:suspect:" + campaignId).getBytes(StandardCharsets.UTF_8);
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.setCommands().sMembers(suspectKey);
+			connection.keyCommands().del(suspectKey);
+			if (!userIds.isEmpty()) {
+				connection.setCommands().sAdd(suspectKey, toMembers(userIds));
+				connection.keyCommands().pExpire(suspectKey, ttl.toMillis());
+			}
+			return null;
+		});
+
+		Set<Long> previous = new HashSet<>();
+		Set<String> members = (Set<String>) results.get(0);
+		if (members != null) members.forEach(member -> previous.add(Long.valueOf(member)));
+		return previous;
+	}
+
+	private static byte[][] toMembers(Collection<Long> userIds) {
+		return userIds.stream()
+			.map(userId -> userId.toString().getBytes(StandardCharsets.UTF_8))
+			.toArray(byte[][]::new);
+	}
+
+	public long getSelectedCount(Long campaignId) {
+		String count = redisTemplate.opsForValue().get("apply:count:" + campaignId);
+		return count == null ? 0L : Long.parseLong(count);
+	}
+
+	/**
+	 * 점검 시 읽은 값(expected)이 그대로인 경우에만 선정 인원 카운트를 보정한다.
+	 *
+	 * @return 보정 여부 (그 사이 신청이 들어와 값이 바뀌었으면 false)
+	 */
+	public boolean compareAndSetSelectedCount(Long campaignId, long expected, long target, Duration ttl) {
+		Long result = redisTemplate.execute(
+			RECONCILE_COUNT_SCRIPT,
+			List.of("apply:count:" + campaignId),
+			String.valueOf(expected), String.valueOf(target), String.valueOf(ttl.toMillis())
+		);
+		return Long.valueOf(1L).equals(result);
+	}
 
-		// 4. 현재 신청 수 증가 (atomic)
-		Long currentCount = redisTemplate.opsForValue().increment(countKey);
-		return currentCount <= limit;
+	private static RedisScript<Long> createScript(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
 	}
 }
@@ -0,0 +1,58 @@
+package com.boindang.campaign.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러의 인스턴스 간 단일 실행용 Redis 락 (SET NX PX + token)
+ *
+ * - 락 값에 획득 시 만든 token 을 저장하고, 연장/해제는 token 이 일치할 때만 수행합니다.
+ *   (임대가 만료되어 다른 인스턴스가 잡은 락을 지우거나 연장하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+	private static final RedisScript<Long> RENEW_SCRIPT = createScript("scripts/lock-renew.lua");
+	private static final RedisScript<Long> RELEASE_SCRIPT = createScript("scripts/lock-release.lua");
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * @return 획득한 락의 token (이미 다른 인스턴스가 보유 중이면 empty)
+	 */
+	public Optional<String> tryAcquire(String key, Duration lease) {
+		String token = UUID.randomUUID().toString();
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, lease);
+		return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+	}
+
+	/**
+	 * @return 연장 여부 (false 면 이미 락을 잃었으므로 작업을 중단해야 함)
+	 */
+	public boolean renew(String key, String token, Duration lease) {
+		Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(lease.toMillis()));
+		return Long.valueOf(1L).equals(result);
+	}
+
+	public void release(String key, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+	}
+
+	private static RedisScript<Long> createScript(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
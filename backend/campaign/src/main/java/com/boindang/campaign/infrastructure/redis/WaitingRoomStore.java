@@ -0,0 +1,138 @@
+package com.boindang.campaign.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체험단 신청 대기열 (Redis Sorted Set, score = 입장 시각)
+ *
+ * - 대기열에서 꺼낸 사용자는 결과 저장 전까지 inflight Set 에 남겨, 그 사이 다시 줄을 서지 못하게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomStore {
+
+	private static final String ACTIVE_KEY = "apply:queue:active"; // 대기열이 있는 체험단 ID Set
+
+	private static final RedisScript<Long> ENQUEUE_SCRIPT = createScript("scripts/waiting-room-enqueue.lua", Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> POP_SCRIPT = createScript("scripts/waiting-room-pop.lua", List.class);
+	private static final RedisScript<Long> RESULT_SCRIPT = createScript("scripts/waiting-room-result.lua", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 대기 중, 입장 처리 중이거나 이미 결과가 있는 사용자는 줄 세우지 않는다. (확인과 추가를 스크립트 한 번으로 처리)
+	 *
+	 * @return 새로 줄을 선 경우 true
+	 */
+	public boolean enqueue(Long campaignId, Long userId, Duration ttl) {
+		Long added = redisTemplate.execute(
+			ENQUEUE_SCRIPT,
+			List.of(queueKey(campaignId), inFlightKey(campaignId), resultKey(campaignId), ACTIVE_KEY),
+			userId.toString(), String.valueOf(System.currentTimeMillis()), String.valueOf(ttl.toMillis()),
+			campaignId.toString()
+		);
+		return Long.valueOf(1L).equals(added);
+	}
+
+	/**
+	 * @return 1부터 시작하는 대기 순번, 대기열에 없으면 null
+	 */
+	public Long position(Long campaignId, Long userId) {
+		Long rank = redisTemplate.opsForZSet().rank(queueKey(campaignId), userId.toString());
+		return rank == null ? null : rank + 1;
+	}
+
+	/**
+	 * 대기열 앞에서 꺼내 입장 처리 중으로 표시한다. (saveResult 로 결과를 저장하면 해제)
+	 *
+	 * @param inFlightTtl 처리 중 인스턴스가 종료되어 결과가 저장되지 않은 경우 표시가 남는 최대 시간
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Long> pop(Long campaignId, long count, Duration inFlightTtl) {
+		List<Object> popped = redisTemplate.execute(
+			POP_SCRIPT,
+			List.of(queueKey(campaignId), inFlightKey(campaignId)),
+			String.valueOf(count), String.valueOf(inFlightTtl.toMillis())
+		);
+		if (popped == null) return List.of();
+		return popped.stream()
+			.filter(Objects::nonNull)
+			.map(userId -> Long.valueOf(userId.toString()))
+			.toList();
+	}
+
+	public boolean isInFlight(Long campaignId, Long userId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(inFlightKey(campaignId), userId.toString()));
+	}
+
+	public Set<Long> activeCampaigns() {
+		Set<String> members = redisTemplate.opsForSet().members(ACTIVE_KEY);
+		if (members == null) return Set.of();
+		return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+	}
+
+	// 제거 직후 누군가 줄을 섰다면 다시 등록
+	public void deactivateIfEmpty(Long campaignId) {
+		String queueKey = queueKey(campaignId);
+		if (zCard(queueKey) > 0) return;
+		redisTemplate.opsForSet().remove(ACTIVE_KEY, campaignId.toString());
+		if (zCard(queueKey) > 0) {
+			redisTemplate.opsForSet().add(ACTIVE_KEY, campaignId.toString());
+		}
+	}
+
+	public String result(Long campaignId, Long userId) {
+		Object result = redisTemplate.opsForHash().get(resultKey(campaignId), userId.toString());
+		return result == null ? null : result.toString();
+	}
+
+	/**
+	 * 결과를 저장하고 입장 처리 중 표시를 해제한다.
+	 *
+	 * @param keepExisting true 면 이미 저장된 결과를 덮어쓰지 않음 (중복 신청 거절이 기존 선정 결과를 지우지 않도록)
+	 */
+	public void saveResult(Long campaignId, Long userId, String result, Duration ttl, boolean keepExisting) {
+		redisTemplate.execute(
+			RESULT_SCRIPT,
+			List.of(resultKey(campaignId), inFlightKey(campaignId)),
+			userId.toString(), result, String.valueOf(ttl.toMillis()), keepExisting ? "1" : "0"
+		);
+	}
+
+	private long zCard(String queueKey) {
+		Long size = redisTemplate.opsForZSet().zCard(queueKey);
+		return size == null ? 0 : size;
+	}
+
+	private String queueKey(Long campaignId) {
+		return "apply:queue:" + campaignId;
+	}
+
+	private String resultKey(Long campaignId) {
+		return "apply:queue:result:" + campaignId;
+	}
+
+	private String inFlightKey(Long campaignId) {
+		return "apply:queue:inflight:" + campaignId;
+	}
+
+	private static <T> RedisScript<T> createScript(String location, Class<T> resultType) {
+		DefaultRedisScript<T> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(resultType);
+		return script;
+	}
+}
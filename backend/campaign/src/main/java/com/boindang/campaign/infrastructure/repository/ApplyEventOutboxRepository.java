@@ -0,0 +1,19 @@
+package com.boindang.campaign.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.boindang.campaign.domain.model.ApplyEventOutbox;
+
+public interface ApplyEventOutboxRepository extends JpaRepository<ApplyEventOutbox, Long> {
+	List<ApplyEventOutbox> findByOrderByIdAsc(Pageable pageable);
+
+	// 아직 재발행되지 않은 신청 (정합성 점검에서 유실로 보고 다시 발행하지 않도록)
+	@Query("SELECT o.userId FROM ApplyEventOutbox o WHERE o.campaignId = :campaignId AND o.userId IN :userIds")
+	List<Long> findPendingUserIds(@Param("campaignId") Long campaignId, @Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,39 @@
+package com.boindang.campaign.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY 전략에서는 JPA saveAll 이 batch insert 로 묶이지 않기 때문에 JDBC batch 로 직접 저장한다.
+ * (MySQL 은 rewriteBatchedStatements=true 설정 시 multi-row insert 로 재작성됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CampaignApplicationJdbcRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO campaign_application (campaign_id, user_id, is_selected, applied_at) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param defaultAppliedAt 이벤트에 신청 시각이 없는 경우(이전 버전 메시지) 사용할 시각
+	 */
+	public void batchInsert(List<ApplyEvent> events, LocalDateTime defaultAppliedAt) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+			LocalDateTime appliedAt = event.getAppliedAt() != null ? event.getAppliedAt() : defaultAppliedAt;
+			ps.setLong(1, event.getCampaignId());
+			ps.setLong(2, event.getUserId());
+			ps.setBoolean(3, event.isSelected());
+			ps.setTimestamp(4, Timestamp.valueOf(appliedAt));
+		});
+	}
+}
@@ -1,15 +1,45 @@
 package com.boindang.campaign.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import com.boindang.campaign.domain.model.CampaignApplicant;
 import com.boindang.campaign.domain.model.CampaignApplication;
+import com.boindang.campaign.domain.model.MyApplicationRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CampaignApplicationRepository extends JpaRepository<CampaignApplication, Long> {
     boolean existsByCampaignIdAndUserId(Long campaignId, Long userId);
-    @Query("SELECT ca FROM CampaignApplication ca JOIN FETCH ca.campaign WHERE ca.userId = :userId")
-    List<CampaignApplication> findWithCampaignByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT ca.userId FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.userId IN :userIds")
+    List<Long> findSavedUserIds(@Param("campaignId") Long campaignId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT ca.isSelected FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.userId = :userId")
+    List<Boolean> findSelections(@Param("campaignId") Long campaignId, @Param("userId") Long userId);
+
+    // 내 신청 내역 (신청 시각, id 내림차순 keyset 페이지)
+    String MY_APPLICATION_PROJECTION = "SELECT new com.boindang.campaign.domain.model.MyApplicationRow("
+        + "ca.id, c.id, c.name, ca.isSelected, ca.appliedAt) FROM CampaignApplication ca JOIN ca.campaign c "
+        + "WHERE ca.userId = :userId ";
+
+    @Query(MY_APPLICATION_PROJECTION + "ORDER BY ca.appliedAt DESC, ca.id DESC")
+    List<MyApplicationRow> findMyApplications(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(MY_APPLICATION_PROJECTION
+        + "AND (ca.appliedAt < :appliedAt OR (ca.appliedAt = :appliedAt AND ca.id < :id)) "
+        + "ORDER BY ca.appliedAt DESC, ca.id DESC")
+    List<MyApplicationRow> findMyApplicationsBefore(@Param("userId") Long userId, @Param("appliedAt") LocalDateTime appliedAt,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT ca.campaign.id FROM CampaignApplication ca WHERE ca.userId = :userId AND ca.campaign.id IN :campaignIds")
+    List<Long> findAppliedCampaignIds(@Param("userId") Long userId, @Param("campaignIds") Collection<Long> campaignIds);
+
+    // id 기준 keyset 페이지 (OFFSET 없이 마지막 id 이후부터 조회)
+    @Query("SELECT new com.boindang.campaign.domain.model.CampaignApplicant(ca.id, ca.userId, ca.isSelected) "
+        + "FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.id > :lastId ORDER BY ca.id")
+    List<CampaignApplicant> findApplicantsAfter(@Param("campaignId") Long campaignId, @Param("lastId") Long lastId, Pageable pageable);
 }
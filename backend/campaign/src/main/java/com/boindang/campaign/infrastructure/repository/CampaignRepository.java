@@ -1,12 +1,79 @@
 package com.boindang.campaign.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.domain.model.CampaignAdmission;
+import com.boindang.campaign.domain.model.CampaignHashtag;
 import com.boindang.campaign.domain.model.CampaignStatus;
+import com.boindang.campaign.domain.model.CampaignSummaryRow;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CampaignRepository extends JpaRepository<Campaign, Long> {
 	Page<Campaign> findByStatus(CampaignStatus status, Pageable pageable);
+
+	@Query("SELECT new com.boindang.campaign.domain.model.CampaignAdmission("
+		+ "c.id, c.capacity, c.currentApplicants, c.startDate, c.endDate) FROM Campaign c WHERE c.id = :id")
+	Optional<CampaignAdmission> findAdmissionById(@Param("id") Long id);
+
+	@Query("SELECT new com.boindang.campaign.domain.model.CampaignAdmission("
+		+ "c.id, c.capacity, c.currentApplicants, c.startDate, c.endDate) FROM Campaign c "
+		+ "WHERE c.startDate <= :now AND c.endDate >= :now")
+	List<CampaignAdmission> findAdmissionsOpenAt(@Param("now") LocalDateTime now);
+
+	// 목록용 읽기 모델 (notices, 카테고리 등 목록에 쓰지 않는 컬럼과 해시태그 컬렉션은 조회하지 않음)
+	String SUMMARY_PROJECTION = "SELECT new com.boindang.campaign.domain.model.CampaignSummaryRow("
+		+ "c.id, c.name, c.description, c.imageUrl, c.startDate, c.endDate, c.capacity, c.status) FROM Campaign c";
+
+	@Query(SUMMARY_PROJECTION)
+	List<CampaignSummaryRow> findSummaries();
+
+	@Query(SUMMARY_PROJECTION + " WHERE c.id IN :ids")
+	List<CampaignSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT new com.boindang.campaign.domain.model.CampaignHashtag(c.id, h) FROM Campaign c JOIN c.hashtags h")
+	List<CampaignHashtag> findAllHashtags();
+
+	@Query("SELECT new com.boindang.campaign.domain.model.CampaignHashtag(c.id, h) FROM Campaign c JOIN c.hashtags h WHERE c.id IN :ids")
+	List<CampaignHashtag> findHashtagsByCampaignIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT c.id FROM Campaign c WHERE c.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Campaign c SET c.status = :status WHERE c.id IN :ids")
+	int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") CampaignStatus status);
+
+	// 남은 좌석 내에서 최대 n 명을 한 문장으로 부여 (잠금 읽기 없이 최신 커밋 값 기준, 부여한 수는 LAST_INSERT_ID 에 기록)
+	@Modifying(clearAutomatically = true)
+	@Query(value = "UPDATE campaign SET current_applicants = "
+		+ "current_applicants + LAST_INSERT_ID(LEAST(:n, capacity - current_applicants)) "
+		+ "WHERE id = :id AND current_applicants < capacity", nativeQuery = true)
+	int grantSeatsWithinCapacity(@Param("id") Long id, @Param("n") int n);
+
+	// 같은 커넥션에서 직전 grantSeatsWithinCapacity 가 부여한 좌석 수 (행을 읽지 않음)
+	@Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+	Number findLastGrantedSeats();
+
+	@Query("SELECT c.capacity - c.currentApplicants FROM Campaign c WHERE c.id = :id")
+	Integer findRemainingSeats(@Param("id") Long id);
+
+	// 선정된 신청 내역 수로 현재 인원을 보정 (조회와 갱신을 한 문장으로 처리해 동시 증가분 유실 방지)
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Campaign c SET c.currentApplicants = "
+		+ "(SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign.id = c.id AND ca.isSelected = true) "
+		+ "WHERE c.id = :id")
+	int syncApplicantsWithApplications(@Param("id") Long id);
 }
@@ -1,7 +1,5 @@
 package com.boindang.campaign.presentation.controller;
 
-import java.util.List;
-
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,17 +7,20 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.boindang.campaign.common.response.ApiResponses;
 import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignDetailResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignListResponse;
-import com.boindang.campaign.presentation.dto.response.MyApplicationResponse;
+import com.boindang.campaign.presentation.dto.response.MyApplicationPageResponse;
+import com.boindang.campaign.presentation.dto.response.WaitingTicketResponse;
 
 @Tag(name = "체험단", description = "체험단 관련 API입니다.")
 public interface CampaignApi {
@@ -253,6 +254,18 @@ public interface CampaignApi {
 					      "success": false
 					    }
                 """))),
+		@ApiResponse(responseCode = "400", description = "대기열 모드에서는 대기열 입장 API 로만 신청할 수 있습니다.",
+			content = @Content(mediaType = "application/json",
+				examples = @ExampleObject(value = """
+                    {
+					      "data": null,
+					      "error": {
+					        "status": "BAD_REQUEST",
+					        "message": "대기열 모드에서는 대기열 입장 후 순서대로 신청됩니다."
+					      },
+					      "success": false
+					    }
+                """))),
 		@ApiResponse(responseCode = "500", description = "Kafka 이벤트 전송 중 오류가 발생했습니다.",
 			content = @Content(mediaType = "application/json",
 				examples = @ExampleObject(value = """
@@ -275,29 +288,46 @@ public interface CampaignApi {
 		@RequestHeader("X-User-Id") String userId
 	);
 
+	@Operation(
+		summary = "체험단 신청 결과 구독 API (SSE)",
+		description = "신청 내역이 저장되면 최종 선정 여부(result 이벤트)를 한 번 전송하고 연결을 종료합니다. 이미 저장된 경우 바로 전송합니다."
+	)
+	@GetMapping(value = "/{campaignId}/apply/result/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter streamApplyResult(
+		@Parameter(description = "캠페인 ID", required = true)
+		@PathVariable("campaignId") Long campaignId,
+
+		@Parameter(description = "사용자 ID", required = true)
+		@RequestHeader("X-User-Id") String userId
+	);
+
 	@Operation(
 		summary = "내 체험단 신청 내역 조회 API",
-		description = "로그인한 사용자의 체험단 신청 내역을 조회합니다. (마이페이지에서 사용됨)"
+		description = "로그인한 사용자의 체험단 신청 내역을 최근 신청순으로 조회합니다. (마이페이지에서 사용됨) 다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다."
 	)
 	@io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "내 신청 내역 조회 성공",
 			content = @Content(mediaType = "application/json",
 				examples = @ExampleObject(value = """
                 {
-					       "data": [
-					         {
-					           "campaignId": 1,
-					           "title": "코카콜라 제로 190ml",
-					           "isSelected": true,
-					           "appliedAt": "2025-05-14T15:18:23"
-					         },
-					         {
-					           "campaignId": 2,
-					           "title": "무설탕 딸기 쉐이크",
-					           "isSelected": true,
-					           "appliedAt": "2025-05-18T14:05:36"
-					         }
-					       ],
+					       "data": {
+					         "applications": [
+					           {
+					             "campaignId": 2,
+					             "title": "무설탕 딸기 쉐이크",
+					             "isSelected": true,
+					             "appliedAt": "2025-05-18T14:05:36"
+					           },
+					           {
+					             "campaignId": 1,
+					             "title": "코카콜라 제로 190ml",
+					             "isSelected": true,
+					             "appliedAt": "2025-05-14T15:18:23"
+					           }
+					         ],
+					         "nextCursor": "MjAyNS0wNS0xNFQxNToxODoyM18xMg",
+					         "hasNext": true
+					       },
 					       "error": null,
 					       "success": true
 					     }
@@ -316,10 +346,61 @@ public interface CampaignApi {
             """)))
 	})
 	@GetMapping("/my-applications")
-	ApiResponses<List<MyApplicationResponse>> getMyApplications(
+	ApiResponses<MyApplicationPageResponse> getMyApplications(
+		@Parameter(description = "사용자 ID", required = true)
+		@RequestHeader("X-User-Id") String userId,
+
+		@Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	);
+
+	@Operation(summary = "체험단 신청 대기열 입장 API", description = "대기열 모드에서 체험단 신청 번호표를 발급받습니다. 이미 대기 중이거나 처리된 경우 현재 상태를 반환합니다.")
+	@io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "대기열 입장 완료",
+			content = @Content(mediaType = "application/json",
+				examples = @ExampleObject(value = """
+                    {
+					      "data": {
+					        "campaignId": 1,
+					        "status": "WAITING",
+					        "position": 128,
+					        "message": null
+					      },
+					      "error": null,
+					      "success": true
+					    }
+                """)))
+	})
+	@PostMapping("/{campaignId}/waiting-room")
+	ApiResponses<WaitingTicketResponse> enterWaitingRoom(
+		@Parameter(description = "캠페인 ID", required = true)
+		@PathVariable("campaignId") Long campaignId,
+
 		@Parameter(description = "사용자 ID", required = true)
 		@RequestHeader("X-User-Id") String userId
 	);
 
-}
+	@Operation(summary = "체험단 신청 대기 상태 조회 API", description = "대기 순번(WAITING) 또는 최종 결과(SELECTED, WAITLISTED, REJECTED)를 조회합니다.")
+	@GetMapping("/{campaignId}/waiting-room")
+	ApiResponses<WaitingTicketResponse> getWaitingStatus(
+		@Parameter(description = "캠페인 ID", required = true)
+		@PathVariable("campaignId") Long campaignId,
+
+		@Parameter(description = "사용자 ID", required = true)
+		@RequestHeader("X-User-Id") String userId
+	);
+
+	@Operation(summary = "체험단 신청 대기 상태 구독 API (SSE)", description = "대기 순번을 주기적으로 전송하고, 최종 결과를 전송한 뒤 연결을 종료합니다.")
+	@GetMapping(value = "/{campaignId}/waiting-room/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter streamWaitingStatus(
+		@Parameter(description = "캠페인 ID", required = true)
+		@PathVariable("campaignId") Long campaignId,
 
+		@Parameter(description = "사용자 ID", required = true)
+		@RequestHeader("X-User-Id") String userId
+	);
+
+}
@@ -1,7 +1,6 @@
 package com.boindang.campaign.presentation.controller;
 
-import java.util.List;
-
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,15 +8,19 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.boindang.campaign.application.CampaignApplyService;
 import com.boindang.campaign.application.CampaignService;
+import com.boindang.campaign.application.result.ApplyResultNotifier;
+import com.boindang.campaign.application.waiting.WaitingRoomService;
 import com.boindang.campaign.common.exception.UserException;
 import com.boindang.campaign.common.response.ApiResponses;
 import com.boindang.campaign.presentation.dto.response.ApplyResultResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignDetailResponse;
 import com.boindang.campaign.presentation.dto.response.CampaignListResponse;
-import com.boindang.campaign.presentation.dto.response.MyApplicationResponse;
+import com.boindang.campaign.presentation.dto.response.MyApplicationPageResponse;
+import com.boindang.campaign.presentation.dto.response.WaitingTicketResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +31,8 @@ public class CampaignController implements CampaignApi {
 
 	private final CampaignApplyService applyService;
 	private final CampaignService campaignService;
+	private final WaitingRoomService waitingRoomService;
+	private final ApplyResultNotifier applyResultNotifier;
 
 	@Override
 	@GetMapping
@@ -67,17 +72,73 @@ public class CampaignController implements CampaignApi {
 			throw new UserException("유효하지 않은 사용자입니다.");
 		}
 
+		waitingRoomService.rejectIfEnabled(); // 대기열 모드에서는 POST /{campaignId}/waiting-room 으로만 신청
 		return ApiResponses.success(applyService.apply(campaignId, Long.parseLong(userId)));
 	}
 
+	@Override
+	@GetMapping(value = "/{campaignId}/apply/result/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamApplyResult(
+		@PathVariable("campaignId") Long campaignId,
+		@RequestHeader("X-User-Id") String userId
+	) {
+		if (userId == null || userId.trim().isEmpty()) {
+			throw new UserException("유효하지 않은 사용자입니다.");
+		}
+
+		return applyResultNotifier.subscribe(campaignId, Long.parseLong(userId));
+	}
+
 	@Override
 	@GetMapping("/my-applications")
-	public ApiResponses<List<MyApplicationResponse>> getMyApplications(@RequestHeader("X-User-Id") String userId) {
+	public ApiResponses<MyApplicationPageResponse> getMyApplications(
+		@RequestHeader("X-User-Id") String userId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
 		if (userId == null || userId.trim().isEmpty()) {
 			throw new UserException("유효하지 않은 사용자입니다.");
 		}
 
-		return ApiResponses.success(campaignService.getMyApplications(Long.parseLong(userId)));
+		return ApiResponses.success(campaignService.getMyApplications(Long.parseLong(userId), cursor, size));
 	}
-}
 
+	@Override
+	@PostMapping("/{campaignId}/waiting-room")
+	public ApiResponses<WaitingTicketResponse> enterWaitingRoom(
+		@PathVariable("campaignId") Long campaignId,
+		@RequestHeader("X-User-Id") String userId
+	) {
+		if (userId == null || userId.trim().isEmpty()) {
+			throw new UserException("유효하지 않은 사용자입니다.");
+		}
+
+		return ApiResponses.success(waitingRoomService.enter(campaignId, Long.parseLong(userId)));
+	}
+
+	@Override
+	@GetMapping("/{campaignId}/waiting-room")
+	public ApiResponses<WaitingTicketResponse> getWaitingStatus(
+		@PathVariable("campaignId") Long campaignId,
+		@RequestHeader("X-User-Id") String userId
+	) {
+		if (userId == null || userId.trim().isEmpty()) {
+			throw new UserException("유효하지 않은 사용자입니다.");
+		}
+
+		return ApiResponses.success(waitingRoomService.status(campaignId, Long.parseLong(userId)));
+	}
+
+	@Override
+	@GetMapping(value = "/{campaignId}/waiting-room/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamWaitingStatus(
+		@PathVariable("campaignId") Long campaignId,
+		@RequestHeader("X-User-Id") String userId
+	) {
+		if (userId == null || userId.trim().isEmpty()) {
+			throw new UserException("유효하지 않은 사용자입니다.");
+		}
+
+		return waitingRoomService.subscribe(campaignId, Long.parseLong(userId));
+	}
+}
@@ -1,5 +1,8 @@
 package com.boindang.campaign.presentation.dto.response;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,4 +14,14 @@ public class ApplyEvent {
 	private Long campaignId;
 	private Long userId;
 	private boolean isSelected;
+	private LocalDateTime appliedAt; // 신청 시각 (Redis 선처리 시점)
+
+	public ApplyEvent(Long campaignId, Long userId, boolean isSelected) {
+		this(campaignId, userId, isSelected, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+	}
+
+	// 정원 초과로 선정이 취소된 이벤트 (신청 시각은 유지)
+	public ApplyEvent toWaitlisted() {
+		return new ApplyEvent(campaignId, userId, false, appliedAt);
+	}
 }
@@ -42,8 +42,8 @@ public class CampaignDetailResponse {
 			.status(convertStatusToLabel(campaign.getStatus()))
 			.capacity(campaign.getCapacity())
 			.applicantCount(campaign.getCurrentApplicants())
-			.hashtags(campaign.getHashtags())
-			.notices(campaign.getNotices())
+			.hashtags(List.copyOf(campaign.getHashtags())) // 트랜잭션 안에서 지연 로딩 컬렉션을 복사 (open-in-view: false)
+			.notices(List.copyOf(campaign.getNotices()))
 			.isApplied(isApplied)
 			.build();
 	}
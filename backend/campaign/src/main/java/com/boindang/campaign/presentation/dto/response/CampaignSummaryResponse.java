@@ -3,6 +3,7 @@ package com.boindang.campaign.presentation.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.boindang.campaign.application.listing.CampaignListing;
 import com.boindang.campaign.domain.model.Campaign;
 import com.boindang.campaign.domain.model.CampaignStatus;
 
@@ -41,6 +42,21 @@ public class CampaignSummaryResponse {
 			.build();
 	}
 
+	public static CampaignSummaryResponse from(CampaignListing listing, boolean isApplied) {
+		return CampaignSummaryResponse.builder()
+			.id(listing.id())
+			.name(listing.name())
+			.content(listing.description())
+			.imageUrl(listing.imageUrl())
+			.startDate(listing.startDate())
+			.deadline(listing.endDate())
+			.status(convertStatusToLabel(listing.status()))
+			.capacity(listing.capacity())
+			.hashtags(listing.hashtags())
+			.isApplied(isApplied)
+			.build();
+	}
+
 	private static String convertStatusToLabel(CampaignStatus status) {
 		return switch (status) {
 			case PENDING -> "모집 예정";
@@ -0,0 +1,9 @@
+package com.boindang.campaign.presentation.dto.response;
+
+import java.util.List;
+
+public record MyApplicationPageResponse(
+	List<MyApplicationResponse> applications,
+	String nextCursor, // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+	boolean hasNext
+) {}
@@ -0,0 +1,8 @@
+package com.boindang.campaign.presentation.dto.response;
+
+public record WaitingTicketResponse(
+	Long campaignId,
+	String status, // WAITING, SELECTED, WAITLISTED, REJECTED, NONE
+	Long position, // 대기 중일 때만 (1부터 시작)
+	String message // REJECTED 사유
+) {}
@@ -0,0 +1,96 @@
+package com.boindang.campaign.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.domain.model.ApplyEventOutbox;
+import com.boindang.campaign.infrastructure.kafka.producer.KafkaCampaignProducer;
+import com.boindang.campaign.infrastructure.redis.RedisLock;
+import com.boindang.campaign.infrastructure.repository.ApplyEventOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 에 쌓인 발행 실패 이벤트를 배치 단위로 재발행한다.
+ *
+ * - 배치마다 ack 대기는 send-timeout 한 번으로 제한하고, 락 임대(lock-lease)는 그보다 길게 잡아 배치 시작 전마다 연장
+ * - 연장에 실패하면(락을 잃으면) 다른 인스턴스와 같은 행을 재발행하지 않도록 중단
+ * - 그래도 ack 타임아웃 후 브로커에 저장된 이벤트는 중복 발행될 수 있으며, 소비 측이 (campaign_id, user_id) 로 걸러냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplyEventOutboxRelay {
+
+	private static final String RELAY_LOCK_KEY = "apply:outbox:relay-lock"; // 인스턴스 간 중복 재발행 방지
+
+	private final ApplyEventOutboxRepository outboxRepository;
+	private final KafkaCampaignProducer kafkaProducer;
+	private final RedisLock redisLock;
+
+	@Value("${campaign.kafka.outbox.batch-size:500}")
+	private int batchSize;
+
+	@Value("${campaign.kafka.outbox.send-timeout:30s}")
+	private Duration sendTimeout;
+
+	@Value("${campaign.kafka.outbox.lock-lease:2m}")
+	private Duration lockLease;
+
+	@Scheduled(fixedDelayString = "${campaign.kafka.outbox.relay-interval:5000}")
+	public void relay() {
+		Optional<String> token = redisLock.tryAcquire(RELAY_LOCK_KEY, lockLease);
+		if (token.isEmpty()) return;
+
+		try {
+			List<ApplyEventOutbox> batch;
+			do {
+				if (!redisLock.renew(RELAY_LOCK_KEY, token.get(), lockLease)) {
+					log.warn("❗outbox 재발행 락 만료, 이번 주기 중단");
+					return;
+				}
+				batch = outboxRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+				if (batch.isEmpty()) return;
+			} while (relayBatch(batch) == batch.size() && batch.size() == batchSize);
+		} finally {
+			redisLock.release(RELAY_LOCK_KEY, token.get());
+		}
+	}
+
+	/**
+	 * @return 재발행에 성공해 outbox 에서 삭제된 건수
+	 */
+	private int relayBatch(List<ApplyEventOutbox> batch) {
+		List<CompletableFuture<?>> futures = batch.stream()
+			.<CompletableFuture<?>>map(outbox -> kafkaProducer.publish("apply-campaign", outbox.toEvent()))
+			.toList();
+
+		// 배치 전체가 send-timeout 안에 끝나도록 각 future 는 남은 시간만큼만 대기
+		long deadline = System.nanoTime() + sendTimeout.toNanos();
+		List<Long> relayed = new ArrayList<>();
+		for (int i = 0; i < batch.size(); i++) {
+			try {
+				futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				relayed.add(batch.get(i).getId());
+			} catch (Exception e) {
+				log.warn("❗outbox 재발행 실패: id={}", batch.get(i).getId());
+			}
+		}
+
+		outboxRepository.deleteAllByIdInBatch(relayed);
+		if (!relayed.isEmpty()) {
+			log.info("✅ outbox 재발행 완료: {}/{}건", relayed.size(), batch.size());
+		}
+		return relayed.size();
+	}
+}
@@ -0,0 +1,121 @@
+package com.boindang.campaign.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.boindang.campaign.application.listing.CampaignChangedEvent;
+import com.boindang.campaign.application.listing.CampaignListing;
+import com.boindang.campaign.application.listing.CampaignListingIndex;
+import com.boindang.campaign.application.listing.CampaignListingReader;
+import com.boindang.campaign.domain.model.CampaignStatus;
+import com.boindang.campaign.infrastructure.redis.CampaignListingRedisStore;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체험단 목록 인덱스의 상태 전환을 시작/마감 시각에 정확히 맞춰 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignListingScheduler {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final CampaignListingIndex listingIndex;
+	private final CampaignListingRedisStore redisStore;
+	private final CampaignListingReader listingReader;
+	private final CampaignRepository campaignRepository;
+	private final TaskScheduler taskScheduler;
+
+	private ScheduledFuture<?> nextTransition; // this 로 보호
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		listingIndex.restore();
+		transition();
+	}
+
+	// 시작/마감 시각 전환 누락 대비 주기적 전체 재적재
+	@Scheduled(
+		fixedDelayString = "${campaign.listing.full-refresh-interval:600000}",
+		initialDelayString = "${campaign.listing.full-refresh-interval:600000}"
+	)
+	public void fullRefresh() {
+		syncStatus(listingIndex.reload(now()));
+		reschedule();
+	}
+
+	public void transition() {
+		Map<Long, CampaignStatus> changed = listingIndex.advance(now());
+		if (!changed.isEmpty()) {
+			log.info("🔁 체험단 상태 전환: {}", changed);
+		}
+		syncStatus(changed);
+		reschedule();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCampaignChanged(CampaignChangedEvent event) {
+		refresh(event.campaignId()).ifPresent(redisStore::publishChange);
+	}
+
+	/**
+	 * 체험단 한 건을 DB 에서 다시 읽어 인덱스에 반영한다.
+	 *
+	 * @return 인덱스가 변경된 경우 체험단 id
+	 */
+	public Optional<Long> refresh(Long campaignId) {
+		return listingReader.read(campaignId)
+			.map(listing -> listing.withStatus(listing.statusAt(now())))
+			.filter(this::refresh)
+			.map(CampaignListing::id);
+	}
+
+	/**
+	 * 체험단 한 건을 인덱스에 반영하고, 다음 전환 시각이 앞당겨졌다면 다시 예약한다.
+	 */
+	public boolean refresh(CampaignListing listing) {
+		boolean changed = listingIndex.upsert(listing);
+		if (changed) {
+			reschedule();
+		}
+		return changed;
+	}
+
+	private synchronized void reschedule() {
+		if (nextTransition != null) {
+			nextTransition.cancel(false);
+			nextTransition = null;
+		}
+		listingIndex.nextBoundary(now()).ifPresent(at ->
+			nextTransition = taskScheduler.schedule(this::transition, at.atZone(ZONE).toInstant()));
+	}
+
+	// 읽기 경로 대신 전환 시점에만 DB 상태를 갱신
+	private void syncStatus(Map<Long, CampaignStatus> changed) {
+		if (changed.isEmpty()) return;
+		Map<CampaignStatus, List<Long>> idsByStatus = changed.entrySet().stream()
+			.collect(Collectors.groupingBy(Map.Entry::getValue,
+				Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+		idsByStatus.forEach((status, ids) -> campaignRepository.updateStatus(ids, status));
+	}
+
+	private LocalDateTime now() {
+		return LocalDateTime.now(ZONE);
+	}
+}
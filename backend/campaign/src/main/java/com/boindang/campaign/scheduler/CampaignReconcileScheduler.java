@@ -0,0 +1,42 @@
+package com.boindang.campaign.scheduler;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.application.CampaignReconcileService;
+import com.boindang.campaign.infrastructure.redis.RedisLock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignReconcileScheduler {
+
+	private static final String RECONCILE_LOCK_KEY = "apply:reconcile-lock"; // 한 인스턴스만 점검
+	private static final Duration RECONCILE_LOCK_LEASE = Duration.ofMinutes(10);
+
+	private final CampaignReconcileService reconcileService;
+	private final RedisLock redisLock;
+	private final MeterRegistry meterRegistry;
+
+	@Scheduled(fixedDelayString = "${campaign.reconcile.interval:300000}", initialDelayString = "${campaign.reconcile.interval:300000}")
+	public void reconcile() {
+		Optional<String> token = redisLock.tryAcquire(RECONCILE_LOCK_KEY, RECONCILE_LOCK_LEASE);
+		if (token.isEmpty()) return;
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			reconcileService.reconcileOpenCampaigns();
+		} finally {
+			sample.stop(meterRegistry.timer("campaign.reconcile.duration"));
+			redisLock.release(RECONCILE_LOCK_KEY, token.get()); // 임대가 만료되어 다른 인스턴스가 잡은 락은 지우지 않음
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.boindang.campaign.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.campaign.application.waiting.WaitingRoomService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "campaign.waiting-room.enabled", havingValue = "true")
+public class WaitingRoomScheduler {
+
+	private final WaitingRoomService waitingRoomService;
+
+	// 설정된 속도로 대기열 입장 처리
+	@Scheduled(fixedDelayString = "${campaign.waiting-room.drain-interval:100}")
+	public void drain() {
+		waitingRoomService.drain();
+	}
+
+	// SSE 구독자에게 순번/결과 전송
+	@Scheduled(fixedDelayString = "${campaign.waiting-room.push-interval:1000}")
+	public void pushUpdates() {
+		waitingRoomService.pushUpdates();
+	}
+}
@@ -0,0 +1,32 @@
+-- 체험단 선착순 신청 원자 처리 스크립트
+-- KEYS[1] : apply:users:{campaignId} (중복 신청 방지용 Set)
+-- KEYS[2] : apply:count:{campaignId} (선정 인원 카운트)
+-- KEYS[3] : apply:selected:{campaignId} (선정된 사용자 Set, 유실 이벤트 재발행 시 원래 선정 결과 확인용)
+-- ARGV[1] : userId
+-- ARGV[2] : capacity (모집 인원)
+-- ARGV[3] : ttl (ms, 체험단 마감까지 남은 시간)
+--
+-- return 0 = SELECTED, 1 = WAITLISTED, 2 = DUPLICATE, 3 = CLOSED
+
+local ttl = tonumber(ARGV[3])
+if ttl == nil or ttl <= 0 then
+	return 3
+end
+
+-- 1. 중복 신청 여부 확인 (대기자도 신청 내역은 남기 때문에 Set에는 항상 추가)
+if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+	return 2
+end
+redis.call('PEXPIRE', KEYS[1], ttl)
+
+-- 2. 정원 확인 후 선정된 경우에만 카운트 증가 (정원 이상으로 증가하지 않음)
+local count = tonumber(redis.call('GET', KEYS[2]) or '0')
+if count >= tonumber(ARGV[2]) then
+	return 1
+end
+
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ttl)
+redis.call('SADD', KEYS[3], ARGV[1])
+redis.call('PEXPIRE', KEYS[3], ttl)
+return 0
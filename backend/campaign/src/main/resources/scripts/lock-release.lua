@@ -0,0 +1,11 @@
+-- 분산 락 해제 (자신이 잡은 락인 경우에만 삭제)
+-- KEYS[1] : 락 key
+-- ARGV[1] : 락을 잡을 때 저장한 token
+--
+-- return 1 = 해제, 0 = 이미 만료되었거나 다른 인스턴스가 보유
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+	return 0
+end
+
+return redis.call('DEL', KEYS[1])
@@ -0,0 +1,13 @@
+-- 분산 락 임대 연장 (자신이 잡은 락인 경우에만)
+-- KEYS[1] : 락 key
+-- ARGV[1] : 락을 잡을 때 저장한 token
+-- ARGV[2] : 연장할 임대 시간 (ms)
+--
+-- return 1 = 연장, 0 = 이미 만료되었거나 다른 인스턴스가 보유
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+	return 0
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,15 @@
+-- 선정 인원 카운트 보정 (점검 시점 이후 신청으로 값이 바뀌었으면 보정하지 않음)
+-- KEYS[1] : apply:count:{campaignId}
+-- ARGV[1] : 점검 시 읽은 값
+-- ARGV[2] : 보정할 값
+-- ARGV[3] : ttl (ms, 체험단 마감까지 남은 시간)
+--
+-- return 1 = 보정, 0 = 값이 바뀌어 건너뜀
+
+local current = redis.call('GET', KEYS[1]) or '0'
+if current ~= ARGV[1] then
+	return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
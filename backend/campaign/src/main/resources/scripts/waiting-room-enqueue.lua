@@ -0,0 +1,22 @@
+-- 대기열 입장 (대기 중, 입장 처리 중, 결과가 있는 사용자는 다시 줄 세우지 않음)
+-- KEYS[1] : apply:queue:{campaignId} (대기열 Sorted Set)
+-- KEYS[2] : apply:queue:inflight:{campaignId} (대기열에서 꺼내 신청 처리 중인 사용자 Set)
+-- KEYS[3] : apply:queue:result:{campaignId} (처리 결과 Hash)
+-- KEYS[4] : apply:queue:active (대기열이 있는 체험단 ID Set)
+-- ARGV[1] : userId
+-- ARGV[2] : score (입장 시각, ms)
+-- ARGV[3] : ttl (ms, 체험단 마감까지 남은 시간)
+-- ARGV[4] : campaignId
+--
+-- return 1 = 새로 줄을 섬, 0 = 이미 대기/처리 중이거나 결과가 있음
+
+if redis.call('ZSCORE', KEYS[1], ARGV[1])
+	or redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1
+	or redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then
+	return 0
+end
+
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('SADD', KEYS[4], ARGV[4])
+return 1
@@ -0,0 +1,19 @@
+-- 대기열 앞에서 꺼내 입장 처리 중으로 표시 (꺼낸 뒤 결과 저장 전까지 다시 줄을 설 수 없도록)
+-- KEYS[1] : apply:queue:{campaignId}
+-- KEYS[2] : apply:queue:inflight:{campaignId}
+-- ARGV[1] : 꺼낼 인원
+-- ARGV[2] : inflight Set ttl (ms, 처리 중 인스턴스가 종료된 경우 정리)
+--
+-- return 꺼낸 userId 목록 (입장 순)
+
+local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+local userIds = {}
+for i = 1, #popped, 2 do
+	userIds[#userIds + 1] = popped[i]
+end
+
+if #userIds > 0 then
+	redis.call('SADD', KEYS[2], unpack(userIds))
+	redis.call('PEXPIRE', KEYS[2], ARGV[2])
+end
+return userIds
@@ -0,0 +1,20 @@
+-- 입장 처리 결과 저장 후 처리 중 표시 해제
+-- KEYS[1] : apply:queue:result:{campaignId}
+-- KEYS[2] : apply:queue:inflight:{campaignId}
+-- ARGV[1] : userId
+-- ARGV[2] : 결과
+-- ARGV[3] : 결과 ttl (ms)
+-- ARGV[4] : '1' 이면 기존 결과가 있을 때 덮어쓰지 않음 (중복 신청 거절)
+--
+-- return 1 = 저장, 0 = 기존 결과 유지
+
+local saved
+if ARGV[4] == '1' then
+	saved = redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2])
+else
+	redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+	saved = 1
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('SREM', KEYS[2], ARGV[1])
+return saved
@@ -0,0 +1,10 @@
+-- Kafka 발행 실패 신청 이벤트 outbox (ddl-auto: none 이므로 배포 전 수동 적용)
+CREATE TABLE IF NOT EXISTS apply_event_outbox (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    campaign_id BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    is_selected BIT(1)      NOT NULL,
+    applied_at  DATETIME(6) NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,8 @@
+-- 체험단별 사용자 1건만 저장 (Kafka 재발행/outbox 중복 이벤트가 두 번째 좌석을 가져가지 않도록)
+-- ddl-auto: none 이므로 배포 전 수동 적용, 기존 중복 행은 가장 먼저 저장된 행만 남기고 삭제 후 추가
+DELETE ca FROM campaign_application ca
+    JOIN campaign_application kept
+      ON kept.campaign_id = ca.campaign_id AND kept.user_id = ca.user_id AND kept.id < ca.id;
+
+ALTER TABLE campaign_application
+    ADD CONSTRAINT uk_campaign_application_campaign_user UNIQUE (campaign_id, user_id);
@@ -0,0 +1,2 @@
+-- 내 신청 내역 keyset 페이지 (user_id = ? ORDER BY applied_at DESC, id DESC) 조회용 인덱스
+CREATE INDEX idx_campaign_application_user_applied ON campaign_application (user_id, applied_at, id);
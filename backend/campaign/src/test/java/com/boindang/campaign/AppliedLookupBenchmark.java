@@ -0,0 +1,67 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+
+@DisplayName("⏱️ 체험단 목록 신청 여부 조회 속도 측정 (행 단위 vs 일괄)")
+class AppliedLookupBenchmark {
+
+	private static final int ITERATIONS = 100;
+	private static final long USER_ID = 7L;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static StringRedisTemplate redisTemplate;
+	private static RedisApplicationStore store;
+
+	@BeforeAll
+	static void setUp() {
+		redisTemplate = redis.template();
+		store = new RedisApplicationStore(redisTemplate);
+
+		// 체험단 1~200, 짝수 체험단에만 신청
+		for (long campaignId = 1; campaignId <= 200; campaignId++) {
+			store.tryApply(campaignId, campaignId % 2 == 0 ? USER_ID : USER_ID + 1, 10, Duration.ofMinutes(10));
+		}
+	}
+
+	@ParameterizedTest(name = "page size = {0}")
+	@ValueSource(ints = {10, 50, 200})
+	void perRow_vs_bulk(int pageSize) {
+		List<Long> campaignIds = LongStream.rangeClosed(1, pageSize).boxed().toList();
+
+		long perRowTime = 0;
+		long bulkTime = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			for (Long campaignId : campaignIds) {
+				redisTemplate.opsForSet().isMember("apply:users:" + campaignId, String.valueOf(USER_ID));
+			}
+			perRowTime += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Map<Long, Boolean> applied = store.findApplied(campaignIds, USER_ID);
+			bulkTime += System.nanoTime() - start;
+
+			assertEquals(pageSize, applied.size());
+			campaignIds.forEach(id -> assertEquals(id % 2 == 0, applied.get(id)));
+		}
+
+		System.out.println("⏱️ [page size " + pageSize + "] 행 단위 평균: " + (perRowTime / ITERATIONS / 1_000_000.0)
+			+ "ms, 일괄(파이프라인) 평균: " + (bulkTime / ITERATIONS / 1_000_000.0) + "ms");
+	}
+}
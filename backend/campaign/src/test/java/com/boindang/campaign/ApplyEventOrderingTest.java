@@ -0,0 +1,100 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import com.boindang.campaign.infrastructure.kafka.producer.KafkaCampaignProducer;
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventDeserializer;
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventSerializer;
+import com.boindang.campaign.infrastructure.repository.ApplyEventOutboxRepository;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@EmbeddedKafka(partitions = 4, topics = "apply-campaign")
+@DisplayName("📦 apply-campaign 토픽 체험단 단위 순서 보장 테스트")
+class ApplyEventOrderingTest {
+
+	private static final int CAMPAIGNS = 8;
+	private static final int EVENTS_PER_CAMPAIGN = 500;
+
+	@Test
+	void eventsOfOneCampaign_areConsumedInOrder_underConcurrency(EmbeddedKafkaBroker broker) throws Exception {
+		Map<Long, List<Long>> received = new ConcurrentHashMap<>();
+		Map<Long, Set<Integer>> partitions = new ConcurrentHashMap<>();
+		CountDownLatch consumed = new CountDownLatch(CAMPAIGNS * EVENTS_PER_CAMPAIGN);
+
+		// 1. 파티션 수만큼 concurrency 를 둔 컨슈머
+		Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("ordering-test", "false", broker);
+		ContainerProperties containerProps = new ContainerProperties("apply-campaign");
+		containerProps.setMessageListener((MessageListener<String, ApplyEvent>) (ConsumerRecord<String, ApplyEvent> record) -> {
+			ApplyEvent event = record.value();
+			received.computeIfAbsent(event.getCampaignId(), id -> new ArrayList<>()).add(event.getUserId());
+			partitions.computeIfAbsent(event.getCampaignId(), id -> ConcurrentHashMap.newKeySet()).add(record.partition());
+			consumed.countDown();
+		});
+		ConcurrentMessageListenerContainer<String, ApplyEvent> container = new ConcurrentMessageListenerContainer<>(
+			new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new ApplyEventDeserializer()),
+			containerProps);
+		container.setConcurrency(4);
+		container.start();
+		ContainerTestUtils.waitForAssignment(container, broker.getPartitionsPerTopic());
+
+		// 2. 체험단마다 별도 스레드에서 userId(=순번) 오름차순으로 동시 발행
+		KafkaTemplate<String, ApplyEvent> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+			KafkaTestUtils.producerProps(broker), new StringSerializer(), new ApplyEventSerializer()));
+		KafkaCampaignProducer producer = new KafkaCampaignProducer(
+			template, mock(ApplyEventOutboxRepository.class), Runnable::run, new SimpleMeterRegistry());
+
+		ExecutorService executor = Executors.newFixedThreadPool(CAMPAIGNS);
+		for (long campaignId = 1; campaignId <= CAMPAIGNS; campaignId++) {
+			long id = campaignId;
+			executor.submit(() -> {
+				for (long seq = 0; seq < EVENTS_PER_CAMPAIGN; seq++) {
+					producer.send("apply-campaign", new ApplyEvent(id, seq, true));
+				}
+			});
+		}
+		executor.shutdown();
+
+		assertTrue(consumed.await(60, TimeUnit.SECONDS), "메시지 소비 시간 초과");
+		container.stop();
+		template.destroy();
+
+		// 3. 체험단별로 하나의 파티션에서, 발행 순서 그대로 소비되었는지 확인
+		assertEquals(CAMPAIGNS, received.size());
+		received.forEach((campaignId, userIds) -> {
+			assertEquals(EVENTS_PER_CAMPAIGN, userIds.size());
+			for (int i = 0; i < userIds.size(); i++) {
+				assertEquals(i, userIds.get(i), "체험단 " + campaignId + " 순서 역전");
+			}
+			assertEquals(1, partitions.get(campaignId).size(), "체험단 " + campaignId + " 이벤트가 여러 파티션에 분산됨");
+		});
+	}
+}
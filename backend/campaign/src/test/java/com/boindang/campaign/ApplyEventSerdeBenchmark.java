@@ -0,0 +1,97 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventDeserializer;
+import com.boindang.campaign.infrastructure.kafka.serde.ApplyEventSerializer;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("⏱️ ApplyEvent 직렬화 비교 (JSON 문자열 vs 고정 길이 바이너리)")
+class ApplyEventSerdeBenchmark {
+
+	private static final int WARMUP = 50_000;
+	private static final int ITERATIONS = 200_000;
+	private static final String TOPIC = "apply-campaign";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final StringSerializer stringSerializer = new StringSerializer();
+	private final StringDeserializer stringDeserializer = new StringDeserializer();
+	private final ApplyEventSerializer binarySerializer = new ApplyEventSerializer();
+	private final ApplyEventDeserializer binaryDeserializer = new ApplyEventDeserializer();
+
+	private final ApplyEvent event = new ApplyEvent(1234L, 987654L, true, LocalDateTime.of(2025, 5, 20, 12, 30, 15, 123_000_000));
+
+	@Test
+	void binary_roundTrip() {
+		ApplyEvent decoded = binaryDeserializer.deserialize(TOPIC, binarySerializer.serialize(TOPIC, event));
+
+		assertEquals(event, decoded);
+	}
+
+	@Test
+	void legacyJson_isStillReadable() throws Exception {
+		byte[] json = objectMapper.writeValueAsBytes(new ApplyEvent(1L, 2L, true, null));
+
+		ApplyEvent decoded = binaryDeserializer.deserialize(TOPIC, json);
+
+		assertEquals(1L, decoded.getCampaignId());
+		assertEquals(2L, decoded.getUserId());
+		assertTrue(decoded.isSelected());
+	}
+
+	@Test
+	void json_vs_binary_benchmark() throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			jsonRoundTrip();
+			binaryRoundTrip();
+		}
+
+		// 현재 경로: ObjectMapper -> String -> StringSerializer (역방향도 2단계)
+		long jsonEncode = 0, jsonDecode = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			byte[] bytes = stringSerializer.serialize(TOPIC, objectMapper.writeValueAsString(event));
+			long mid = System.nanoTime();
+			objectMapper.readValue(stringDeserializer.deserialize(TOPIC, bytes), ApplyEvent.class);
+			jsonDecode += System.nanoTime() - mid;
+			jsonEncode += mid - start;
+		}
+
+		long binaryEncode = 0, binaryDecode = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			byte[] bytes = binarySerializer.serialize(TOPIC, event);
+			long mid = System.nanoTime();
+			binaryDeserializer.deserialize(TOPIC, bytes);
+			binaryDecode += System.nanoTime() - mid;
+			binaryEncode += mid - start;
+		}
+
+		int jsonBytes = objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8).length;
+		int binaryBytes = binarySerializer.serialize(TOPIC, event).length;
+
+		System.out.println("📦 이벤트당 크기 - JSON: " + jsonBytes + "B, 바이너리: " + binaryBytes + "B");
+		System.out.println("⏱️ JSON 평균 - encode: " + (jsonEncode / ITERATIONS) + "ns, decode: " + (jsonDecode / ITERATIONS) + "ns");
+		System.out.println("⏱️ 바이너리 평균 - encode: " + (binaryEncode / ITERATIONS) + "ns, decode: " + (binaryDecode / ITERATIONS) + "ns");
+
+		assertTrue(binaryBytes < jsonBytes);
+	}
+
+	private void jsonRoundTrip() throws Exception {
+		byte[] bytes = stringSerializer.serialize(TOPIC, objectMapper.writeValueAsString(event));
+		objectMapper.readValue(stringDeserializer.deserialize(TOPIC, bytes), ApplyEvent.class);
+	}
+
+	private void binaryRoundTrip() {
+		binaryDeserializer.deserialize(TOPIC, binarySerializer.serialize(TOPIC, event));
+	}
+}
@@ -0,0 +1,110 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.boindang.campaign.application.CampaignApplyService;
+import com.boindang.campaign.application.admission.CampaignAdmissionCache;
+import com.boindang.campaign.common.exception.CampaignException;
+import com.boindang.campaign.domain.model.CampaignAdmission;
+import com.boindang.campaign.infrastructure.kafka.producer.KafkaCampaignProducer;
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("📊 체험단 신청 단계별 지표 부하 테스트")
+class ApplyMetricsLoadTest {
+
+	private static final long CAMPAIGN_ID = 1L;
+	private static final int CAPACITY = 100;
+	private static final int APPLICANTS = 5_000;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static StringRedisTemplate redisTemplate;
+
+	@BeforeAll
+	static void setUp() {
+		redisTemplate = redis.template();
+	}
+
+	@Test
+	void stageMetrics_matchOutcomesUnderLoad() throws Exception {
+		redisTemplate.delete(List.of("apply:users:" + CAMPAIGN_ID, "apply:count:" + CAMPAIGN_ID));
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		CampaignRepository campaignRepository = mock(CampaignRepository.class);
+		when(campaignRepository.findAdmissionById(CAMPAIGN_ID))
+			.thenReturn(Optional.of(new CampaignAdmission(CAMPAIGN_ID, CAPACITY, 0, now.minusDays(1), now.plusDays(1))));
+
+		CampaignAdmissionCache admissionCache = new CampaignAdmissionCache(campaignRepository, redisTemplate,
+			mock(RedisMessageListenerContainer.class), registry, Duration.ofMinutes(1));
+		KafkaCampaignProducer kafkaProducer = mock(KafkaCampaignProducer.class);
+		CampaignApplyService applyService = new CampaignApplyService(
+			new RedisApplicationStore(redisTemplate), kafkaProducer, admissionCache, registry);
+
+		AtomicInteger rejected = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch done = new CountDownLatch(APPLICANTS);
+		long begin = System.nanoTime();
+		for (int i = 0; i < APPLICANTS; i++) {
+			long userId = i;
+			executor.submit(() -> {
+				try {
+					applyService.apply(CAMPAIGN_ID, userId);
+				} catch (CampaignException e) {
+					rejected.incrementAndGet(); // 정원 마감 후 로컬 캐시에서 거절
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		assertTrue(done.await(60, TimeUnit.SECONDS), "부하 테스트 시간 초과");
+		long elapsed = System.nanoTime() - begin;
+		executor.shutdown();
+
+		Timer selected = registry.get("campaign.apply.redis.admission").tag("outcome", "selected").timer();
+		Timer waitlisted = registry.get("campaign.apply.redis.admission").tag("outcome", "waitlisted").timer();
+		double soldOutRejected = registry.get("campaign.admission.rejected").tag("reason", "sold_out").counter().count();
+		double cacheLookups = registry.get("campaign.admission.cache").counters().stream().mapToDouble(c -> c.count()).sum();
+
+		// Redis 선처리 결과별 타이머 수 = 실제 결과 수
+		assertEquals(CAPACITY, selected.count());
+		assertEquals(APPLICANTS - CAPACITY, waitlisted.count() + (long) soldOutRejected);
+		assertEquals(rejected.get(), (long) soldOutRejected);
+		verify(kafkaProducer, times(CAPACITY + (int) waitlisted.count())).send(eq("apply-campaign"), any());
+
+		// 정원 도달은 한 번만 기록, DB 조회는 캐시 miss 때만 발생
+		assertEquals(1.0, registry.get("campaign.apply.capacity.reached").tag("stage", "redis").counter().count());
+		assertEquals(APPLICANTS, (long) cacheLookups);
+		Timer dbLookup = registry.get("campaign.apply.db.lookup").timer();
+		assertTrue(dbLookup.count() >= 1 && dbLookup.count() < APPLICANTS);
+
+		System.out.println("⏱️ 신청 " + APPLICANTS + "건 처리 시간: " + (elapsed / 1_000_000.0) + "ms");
+		System.out.println("📊 Redis 선정 평균 " + selected.mean(TimeUnit.MICROSECONDS) + "µs, 최대 " + selected.max(TimeUnit.MICROSECONDS) + "µs");
+		System.out.println("📊 Redis 대기 평균 " + waitlisted.mean(TimeUnit.MICROSECONDS) + "µs, 로컬 거절 " + (long) soldOutRejected + "건");
+		System.out.println("📊 DB 조회 " + dbLookup.count() + "회");
+	}
+}
@@ -0,0 +1,64 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boindang.campaign.application.AppliedCampaignResolver;
+import com.boindang.campaign.application.CampaignService;
+import com.boindang.campaign.application.listing.CampaignListingIndex;
+import com.boindang.campaign.application.mypage.MyApplicationCache;
+import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+import com.boindang.campaign.presentation.dto.response.CampaignDetailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("📄 체험단 상세 응답 직렬화 테스트 (open-in-view: false)")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Import(CampaignService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스 트랜잭션이 끝난 뒤 직렬화되는 실제 흐름 재현
+class CampaignDetailSerializationTest {
+
+	@Autowired
+	private CampaignService campaignService;
+	@Autowired
+	private CampaignRepository campaignRepository;
+
+	@MockitoBean
+	private CampaignListingIndex listingIndex;
+	@MockitoBean
+	private AppliedCampaignResolver appliedCampaignResolver;
+	@MockitoBean
+	private MyApplicationCache myApplicationCache;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void detail_isSerializable_afterTransactionCloses() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		Long campaignId = campaignRepository.save(new Campaign("체험단", "설명", "식품", "음료",
+			new ArrayList<>(List.of("#제로", "#무설탕")), 10, "image", now.minusDays(1), now.plusDays(1),
+			new ArrayList<>(List.of("주의사항"))).getId();
+		when(appliedCampaignResolver.isApplied(eq(campaignId), any())).thenReturn(false);
+
+		CampaignDetailResponse detail = campaignService.getCampaignDetail(campaignId, 1L);
+		String json = assertDoesNotThrow(() -> objectMapper.writeValueAsString(detail));
+
+		assertEquals(List.of("#제로", "#무설탕"), detail.getHashtags());
+		assertTrue(json.contains("#무설탕"));
+		assertTrue(json.contains("주의사항"));
+	}
+}
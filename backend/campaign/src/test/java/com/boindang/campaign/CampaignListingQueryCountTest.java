@@ -0,0 +1,95 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.boindang.campaign.application.listing.CampaignListing;
+import com.boindang.campaign.application.listing.CampaignListingReader;
+import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DisplayName("🔍 체험단 목록 조회 쿼리 수 검증 (엔티티 vs projection)")
+@DataJpaTest(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CampaignListingReader.class)
+class CampaignListingQueryCountTest {
+
+	private static final int CAMPAIGNS = 30;
+	private static final int PAGE_SIZE = 10;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private CampaignRepository campaignRepository;
+	@Autowired
+	private CampaignListingReader listingReader;
+
+	private Statistics statistics;
+	private List<Long> pageIds;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < CAMPAIGNS; i++) {
+			Campaign campaign = new Campaign("체험단 " + i, "설명 " + i, "식품", "음료",
+				new ArrayList<>(List.of("#제로", "#무설탕", "#" + i)), 10, "image-" + i,
+				now.minusDays(1), now.plusDays(1), new ArrayList<>(List.of("주의사항")));
+			ids.add(entityManager.persist(campaign).getId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		pageIds = ids.subList(0, PAGE_SIZE);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void page_isLoadedWithTwoStatements() {
+		List<CampaignListing> page = listingReader.read(pageIds);
+
+		assertEquals(PAGE_SIZE, page.size());
+		page.forEach(listing -> assertEquals(3, listing.hashtags().size()));
+		assertEquals(2, statistics.getPrepareStatementCount(), "요약 컬럼 1회 + 해시태그 일괄 조회 1회");
+		System.out.println("✅ projection 목록 페이지 쿼리 수: " + statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void fullReload_isLoadedWithTwoStatements() {
+		List<CampaignListing> all = listingReader.readAll();
+
+		assertEquals(CAMPAIGNS, all.size());
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getCollectionLoadCount(), "해시태그 컬렉션을 엔티티로 불러오지 않아야 함");
+	}
+
+	@Test
+	void entityPage_firesQueryPerCampaign() {
+		campaignRepository.findAllById(pageIds).forEach(campaign -> campaign.getHashtags().size());
+
+		// 비교용: 엔티티 조회 시 체험단마다 해시태그 컬렉션 조회가 추가로 발생
+		assertEquals(1 + PAGE_SIZE, statistics.getPrepareStatementCount());
+		System.out.println("⚠️ 엔티티 목록 페이지 쿼리 수: " + statistics.getPrepareStatementCount());
+	}
+}
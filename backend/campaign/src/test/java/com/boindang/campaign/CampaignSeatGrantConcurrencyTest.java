@@ -0,0 +1,121 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boindang.campaign.application.CampaignSaveService;
+import com.boindang.campaign.domain.model.Campaign;
+import com.boindang.campaign.infrastructure.repository.CampaignApplicationJdbcRepository;
+import com.boindang.campaign.infrastructure.repository.CampaignRepository;
+import com.boindang.campaign.presentation.dto.response.ApplyEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("🪑 마지막 좌석을 두고 경쟁하는 batch 저장 동시성 테스트")
+@DataJpaTest(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	// 좌석 부여 UPDATE 가 MySQL 의 LAST_INSERT_ID(expr) 를 사용
+	"spring.datasource.url=jdbc:h2:mem:seat-grant;MODE=MySQL;DB_CLOSE_DELAY=-1",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CampaignSaveService.class, CampaignApplicationJdbcRepository.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 batch 가 실제로 커밋되어야 경쟁이 재현됨
+class CampaignSeatGrantConcurrencyTest {
+
+	private static final int ROUNDS = 20;
+	private static final int CAPACITY = 4;
+	private static final int BATCH_SELECTED = 3; // 두 batch 가 3명씩 요청 -> 합계 6명
+
+	@Autowired
+	private CampaignSaveService saveService;
+	@Autowired
+	private CampaignRepository campaignRepository;
+
+	@Test
+	void concurrentBatches_grantOnlyRemainingSeats_andFinish() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				Long campaignId = createCampaign(round);
+
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<List<ApplyEvent>>> futures = new ArrayList<>();
+				for (int batch = 0; batch < 2; batch++) {
+					List<ApplyEvent> events = selectedEvents(campaignId, batch * 100L);
+					futures.add(executor.submit(() -> {
+						start.await();
+						return saveService.saveAll(events);
+					}));
+				}
+				start.countDown();
+
+				// 좌석 부여가 스냅샷 값으로 재시도하며 멈추지 않는지 확인
+				long granted = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+					long selected = 0;
+					for (Future<List<ApplyEvent>> future : futures) {
+						selected += future.get().stream().filter(ApplyEvent::isSelected).count();
+					}
+					return selected;
+				});
+
+				assertEquals(CAPACITY, granted, "남은 좌석 수만큼만 선정");
+				assertEquals(0, campaignRepository.findRemainingSeats(campaignId), "정원을 넘거나 좌석이 남지 않음");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void replayedEvents_areSkipped_andDoNotTakeSecondSeat() {
+		Long campaignId = createCampaign(ROUNDS);
+		List<ApplyEvent> events = selectedEvents(campaignId, 0L);
+
+		assertEquals(BATCH_SELECTED, saveService.saveAll(events).size());
+		// ack 타임아웃 후 outbox 재발행 + 같은 배치 안의 중복
+		List<ApplyEvent> replayed = new ArrayList<>(events);
+		replayed.add(new ApplyEvent(campaignId, 1000L, true));
+		replayed.add(new ApplyEvent(campaignId, 1000L, true));
+
+		List<ApplyEvent> saved = saveService.saveAll(replayed);
+
+		assertEquals(1, saved.size(), "새 사용자 1명만 저장");
+		assertEquals(CAPACITY - BATCH_SELECTED - 1, campaignRepository.findRemainingSeats(campaignId));
+		assertTrue(saveService.save(new ApplyEvent(campaignId, 1L, true)).isEmpty());
+	}
+
+	private Long createCampaign(int round) {
+		LocalDateTime now = LocalDateTime.now();
+		Campaign campaign = new Campaign("체험단 " + round, "설명", "식품", "음료",
+			new ArrayList<>(List.of("#제로")), CAPACITY, "image", now.minusDays(1), now.plusDays(1),
+			new ArrayList<>(List.of("주의사항")));
+		return campaignRepository.save(campaign).getId();
+	}
+
+	private List<ApplyEvent> selectedEvents(Long campaignId, long userIdOffset) {
+		return LongStream.rangeClosed(1, BATCH_SELECTED)
+			.mapToObj(i -> new ApplyEvent(campaignId, userIdOffset + i, true))
+			.toList();
+	}
+}
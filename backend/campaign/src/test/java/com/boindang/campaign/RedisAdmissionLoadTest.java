@@ -0,0 +1,97 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.boindang.campaign.domain.model.ApplyOutcome;
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+
+@DisplayName("🔥 Redis 선착순 신청 스크립트 동시성 부하 테스트")
+class RedisAdmissionLoadTest {
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static StringRedisTemplate redisTemplate;
+	private static RedisApplicationStore store;
+
+	@BeforeAll
+	static void setUp() {
+		redisTemplate = redis.template();
+		store = new RedisApplicationStore(redisTemplate);
+	}
+
+	@Test
+	void concurrentApply_neverOverAdmits() throws Exception {
+		long campaignId = 1L;
+		int capacity = 100;
+		int applicants = 5_000;
+		redisTemplate.delete(List.of("apply:users:" + campaignId, "apply:count:" + campaignId, "apply:selected:" + campaignId));
+
+		Map<ApplyOutcome, AtomicInteger> results = new EnumMap<>(ApplyOutcome.class);
+		for (ApplyOutcome outcome : ApplyOutcome.values()) {
+			results.put(outcome, new AtomicInteger());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(applicants * 2);
+
+		long begin = System.nanoTime();
+		for (int i = 0; i < applicants; i++) {
+			long userId = i;
+			// 같은 사용자가 두 번씩 신청 (중복 신청 검증)
+			for (int retry = 0; retry < 2; retry++) {
+				executor.submit(() -> {
+					try {
+						start.await();
+						ApplyOutcome outcome = store.tryApply(campaignId, userId, capacity, Duration.ofMinutes(10));
+						results.get(outcome).incrementAndGet();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+		}
+		start.countDown();
+		assertTrue(done.await(60, TimeUnit.SECONDS), "부하 테스트 시간 초과");
+		long elapsed = System.nanoTime() - begin;
+		executor.shutdown();
+
+		assertEquals(capacity, results.get(ApplyOutcome.SELECTED).get(), "정원보다 많이/적게 선정됨");
+		assertEquals(applicants - capacity, results.get(ApplyOutcome.WAITLISTED).get());
+		assertEquals(applicants, results.get(ApplyOutcome.DUPLICATE).get());
+		assertEquals(String.valueOf(capacity), redisTemplate.opsForValue().get("apply:count:" + campaignId));
+		assertEquals(applicants, redisTemplate.opsForSet().size("apply:users:" + campaignId));
+		assertEquals(capacity, store.findSelected(campaignId, LongStream.range(0, applicants).boxed().toList()).size(),
+			"선정 결과는 재발행 시 확인할 수 있도록 선정된 사용자만 기록");
+
+		System.out.println("⏱️ 신청 " + (applicants * 2) + "건 처리 시간: " + (elapsed / 1_000_000.0) + "ms, 결과: " + results);
+	}
+
+	@Test
+	void expiredCampaign_isClosed() {
+		ApplyOutcome outcome = store.tryApply(2L, 1L, 10, Duration.ofSeconds(-1));
+
+		assertEquals(ApplyOutcome.CLOSED, outcome);
+		assertFalse(redisTemplate.hasKey("apply:users:2"));
+	}
+}
@@ -0,0 +1,121 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.boindang.campaign.domain.model.ApplyOutcome;
+import com.boindang.campaign.infrastructure.redis.RedisApplicationStore;
+
+/**
+ * 신청 경로(DB 조회 -> Redis 선처리 -> Kafka 발행)를 5,000 명이 동시에 호출할 때
+ * Tomcat 기본 플랫폼 스레드 풀(200) 과 가상 스레드의 처리량, p99 응답 시간 비교
+ *
+ * - DB 조회는 캐시 miss 시 JDBC 왕복 시간만큼 sleep 으로 대체
+ * - Redis 는 실제 선처리 스크립트 실행, Kafka 발행은 비동기(ack 대기 없음)이므로 제외
+ */
+@DisplayName("🧵 신청 경로 플랫폼 스레드 vs 가상 스레드 처리량 측정")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadApplyBenchmark {
+
+	private static final int APPLIERS = 5_000;
+	private static final int CAPACITY = 100;
+	private static final int TOMCAT_MAX_THREADS = 200;
+	private static final long DB_LATENCY_MILLIS = 5;
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static StringRedisTemplate redisTemplate;
+	private static RedisApplicationStore store;
+
+	@BeforeAll
+	static void setUp() {
+		redisTemplate = redis.template();
+		store = new RedisApplicationStore(redisTemplate);
+	}
+
+	@Test
+	void platformThreads_vs_virtualThreads() throws Exception {
+		ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+		platform.setCorePoolSize(TOMCAT_MAX_THREADS);
+		platform.setMaxPoolSize(TOMCAT_MAX_THREADS);
+		platform.setThreadNamePrefix("platform-");
+		platform.initialize();
+
+		SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("virtual-");
+		virtual.setVirtualThreads(true);
+
+		// JIT 워밍업
+		run(1L, platform);
+		run(2L, virtual);
+
+		Result platformResult = run(3L, platform);
+		Result virtualResult = run(4L, virtual);
+		platform.shutdown();
+
+		System.out.println("⏱️ 플랫폼 스레드(" + TOMCAT_MAX_THREADS + "): " + platformResult);
+		System.out.println("⏱️ 가상 스레드: " + virtualResult);
+		System.out.printf("📈 처리량 %.2f배, p99 %.2f배%n",
+			virtualResult.throughput() / platformResult.throughput(),
+			(double) platformResult.p99Millis() / virtualResult.p99Millis());
+	}
+
+	private Result run(long campaignId, AsyncTaskExecutor executor) throws Exception {
+		redisTemplate.delete(List.of("apply:users:" + campaignId, "apply:count:" + campaignId));
+
+		long[] latencies = new long[APPLIERS];
+		AtomicInteger selected = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(APPLIERS);
+
+		long begin = System.nanoTime();
+		for (int i = 0; i < APPLIERS; i++) {
+			int index = i;
+			long submitted = System.nanoTime();
+			executor.execute(() -> {
+				try {
+					Thread.sleep(DB_LATENCY_MILLIS);
+					ApplyOutcome outcome = store.tryApply(campaignId, (long) index, CAPACITY, Duration.ofMinutes(10));
+					if (outcome.isSelected()) selected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					// 요청이 스레드를 기다린 시간까지 포함한 응답 시간
+					latencies[index] = System.nanoTime() - submitted;
+					done.countDown();
+				}
+			});
+		}
+		assertTrue(done.await(60, TimeUnit.SECONDS), "부하 테스트 시간 초과");
+		long elapsed = System.nanoTime() - begin;
+
+		assertEquals(CAPACITY, selected.get());
+
+		Arrays.sort(latencies);
+		long p99 = latencies[(int) (APPLIERS * 0.99) - 1];
+		return new Result(elapsed / 1_000_000, APPLIERS * 1_000_000_000.0 / elapsed, p99 / 1_000_000);
+	}
+
+	private record Result(long elapsedMillis, double throughput, long p99Millis) {
+		@Override
+		public String toString() {
+			return String.format("%dms, %.0f req/s, p99 %dms", elapsedMillis, throughput, p99Millis);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.boindang.campaign;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.boindang.campaign.infrastructure.redis.WaitingRoomStore;
+
+@DisplayName("🎟️ 대기열 재입장/결과 덮어쓰기 방지 테스트")
+class WaitingRoomStoreTest {
+
+	private static final long CAMPAIGN_ID = 1L;
+	private static final long USER_ID = 7L;
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static StringRedisTemplate redisTemplate;
+	private static WaitingRoomStore store;
+
+	@BeforeAll
+	static void setUp() {
+		redisTemplate = redis.template();
+		store = new WaitingRoomStore(redisTemplate);
+	}
+
+	@BeforeEach
+	void clear() {
+		redisTemplate.delete(List.of("apply:queue:" + CAMPAIGN_ID, "apply:queue:inflight:" + CAMPAIGN_ID,
+			"apply:queue:result:" + CAMPAIGN_ID, "apply:queue:active"));
+	}
+
+	@Test
+	void enqueue_isRejected_whileQueuedInFlightOrDone() {
+		assertTrue(store.enqueue(CAMPAIGN_ID, USER_ID, TTL));
+		assertFalse(store.enqueue(CAMPAIGN_ID, USER_ID, TTL), "대기 중 재입장");
+
+		assertEquals(List.of(USER_ID), store.pop(CAMPAIGN_ID, 10, TTL));
+		assertTrue(store.isInFlight(CAMPAIGN_ID, USER_ID));
+		assertFalse(store.enqueue(CAMPAIGN_ID, USER_ID, TTL), "꺼낸 뒤 결과 저장 전 재입장");
+
+		store.saveResult(CAMPAIGN_ID, USER_ID, "SELECTED", TTL, false);
+		assertFalse(store.isInFlight(CAMPAIGN_ID, USER_ID));
+		assertFalse(store.enqueue(CAMPAIGN_ID, USER_ID, TTL), "결과가 있는 사용자 재입장");
+	}
+
+	@Test
+	void duplicateRejection_doesNotOverwriteExistingResult() {
+		store.saveResult(CAMPAIGN_ID, USER_ID, "SELECTED", TTL, false);
+		store.saveResult(CAMPAIGN_ID, USER_ID, "REJECTED:이미 신청하신 체험단입니다.", TTL, true);
+
+		assertEquals("SELECTED", store.result(CAMPAIGN_ID, USER_ID));
+	}
+}
@@ -1,52 +1,176 @@
 package com.boindang.encyclopedia.application;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
 
+import com.boindang.encyclopedia.application.autocomplete.ChosungIndexGenerator;
+import com.boindang.encyclopedia.application.search.IngredientSearchResult;
+import com.boindang.encyclopedia.application.search.SearchTier;
 import com.boindang.encyclopedia.domain.IngredientDictionary;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 자동완성 결과 캐시 (L1: 인스턴스 로컬 Caffeine, L2: Redis)
+ *
+ * - 성분명 목록이 아니라 바로 응답 가능한 검색 결과(단계, 추천 성분명, 응답 목록)를 저장하므로 캐시 hit 시 ES 를 호출하지 않습니다.
+ * - L2 는 응답 목록을 [id, name, engName, type, riskLevel] 배열의 JSON 으로 압축 저장합니다.
+ * - 캐시 키에는 버전이 포함되며, 재색인/초성 인덱스 재생성 시 버전을 올려 모든 인스턴스의 이전 결과를 무효화합니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class AutocompleteCacheService {
+public class AutocompleteCacheService implements MessageListener {
+
+	public static final String VERSION_CHANNEL = "autocomplete:invalidate";
+	private static final String VERSION_KEY = "autocomplete:version";
+	private static final String HYDRATED_PREFIX = "autocomplete:hydrated:";
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
 	private final EncyclopediaRepository encyclopediaRepository;
+	private final ObjectMapper objectMapper;
+	private final Duration remoteTtl;
+	private final Cache<String, IngredientSearchResult> localCache; // "{version}::{key}" -> 결과
+
+	private volatile long version;
+
+	public AutocompleteCacheService(
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		EncyclopediaRepository encyclopediaRepository,
+		ObjectMapper objectMapper,
+		@Value("${encyclopedia.autocomplete.cache.local-ttl:10m}") Duration localTtl,
+		@Value("${encyclopedia.autocomplete.cache.remote-ttl:1h}") Duration remoteTtl
+	) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.encyclopediaRepository = encyclopediaRepository;
+		this.objectMapper = objectMapper;
+		this.remoteTtl = remoteTtl;
+		this.localCache = Caffeine.newBuilder()
+			.expireAfterWrite(localTtl)
+			.maximumSize(10_000)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(VERSION_CHANNEL));
+		try {
+			String stored = redisTemplate.opsForValue().get(VERSION_KEY);
+			version = stored == null ? 0L : Long.parseLong(stored);
+		} catch (Exception e) {
+			log.warn("⚠️ 자동완성 캐시 버전 조회 실패, 0 으로 시작: {}", e.getMessage());
+		}
+	}
 
 	/**
-	 * Redis에서 해당 초성(query)에 대한 자동완성 성분 목록을 조회
+	 * 초성 prefix 자동완성 목록 조회
 	 *
-	 * - key 형식: "autocomplete::[초성]"
-	 * - Redis에 캐싱된 성분 이름 목록을 기준으로 DB에서 상세 정보를 조회합니다.
-	 * - Redis 순서를 보존하며, 존재하지 않는 성분은 필터링됩니다.
+	 * - 초성 → 성분명 목록은 "autocomplete::[초성 prefix]" (ChosungIndexGenerator 가 생성)
+	 * - 캐시 miss 시에만 성분명 목록으로 ES 에서 상세 정보를 조회하며, Redis 순서를 보존하고 존재하지 않는 성분은 제외합니다.
 	 *
-	 * @param query 초성 한 글자
-	 * @return 캐시에 저장된 성분 이름들을 기반으로 조회된 응답 객체 리스트
+	 * @param query 초성 prefix (예: "ㅁ", "ㅁㅌ")
+	 * @return 자동완성 응답 리스트 (없으면 빈 리스트)
 	 */
 	public List<EncyclopediaSearchResponse> getCachedAutocomplete(String query) {
-		String redisKey = "autocomplete::" + query;
+		return getOrLoad("chosung::" + query, () -> IngredientSearchResult.of(SearchTier.CHOSUNG, loadChosung(query)))
+			.results();
+	}
+
+	/**
+	 * 검색 결과를 L1 → L2 → loader 순으로 조회하고, loader 결과는 두 캐시에 저장
+	 *
+	 * - 같은 인스턴스에서 같은 키를 동시에 조회하면 loader 는 한 번만 실행됩니다.
+	 * - loader 가 예외를 던지면 캐시에 저장하지 않고 그대로 전파합니다.
+	 */
+	public IngredientSearchResult getOrLoad(String key, Supplier<IngredientSearchResult> loader) {
+		long currentVersion = version;
+		return localCache.get(currentVersion + "::" + key, k -> loadRemote(currentVersion, key, loader));
+	}
+
+	/**
+	 * 캐시 버전을 올려 모든 인스턴스의 자동완성 캐시를 무효화 (재색인, 초성 인덱스 재생성 후 호출)
+	 */
+	public void invalidateAll() {
+		Long next = redisTemplate.opsForValue().increment(VERSION_KEY);
+		if (next == null) return;
 
-		// 캐시에서 최대 10개 가져오기 (캐시에는 이름만 존재)
-		List<String> cachedNames = redisTemplate.opsForList().range(redisKey, 0, 9);
-		if (cachedNames.isEmpty()) return Collections.emptyList();
+		changeVersion(next);
+		redisTemplate.convertAndSend(VERSION_CHANNEL, String.valueOf(next));
+		log.info("🔄 자동완성 캐시 버전 변경: v{}", next);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody());
+		try {
+			changeVersion(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("❗알 수 없는 자동완성 캐시 버전 메시지: {}", body);
+		}
+	}
+
+	private synchronized void changeVersion(long next) {
+		if (next <= version) return;
+		version = next;
+		localCache.invalidateAll(); // 이전 버전 키는 더 이상 조회되지 않으므로 메모리만 정리
+	}
+
+	private IngredientSearchResult loadRemote(long currentVersion, String key, Supplier<IngredientSearchResult> loader) {
+		String redisKey = HYDRATED_PREFIX + currentVersion + "::" + key;
+
+		String payload = redisTemplate.opsForValue().get(redisKey);
+		if (payload != null) {
+			try {
+				return deserialize(payload);
+			} catch (JsonProcessingException e) {
+				log.warn("⚠️ 자동완성 캐시 역직렬화 실패, 다시 적재: key={}", redisKey);
+			}
+		}
+
+		IngredientSearchResult loaded = loader.get();
+		try {
+			redisTemplate.opsForValue().set(redisKey, serialize(loaded), remoteTtl);
+		} catch (JsonProcessingException e) {
+			log.warn("⚠️ 자동완성 캐시 직렬화 실패: key={}", redisKey);
+		}
+		return loaded;
+	}
 
-		// name 리스트를 기준으로 DB에서 전체 정보 조회
+	private List<EncyclopediaSearchResponse> loadChosung(String query) {
+		// 캐시에서 최대 10개 가져오기 (초성 목록에는 이름만 존재)
+		List<String> cachedNames = redisTemplate.opsForList().range(ChosungIndexGenerator.KEY_PREFIX + query, 0, 9);
+		if (cachedNames == null || cachedNames.isEmpty()) return Collections.emptyList();
+
+		// name 리스트를 기준으로 ES 에서 전체 정보 조회
 		List<IngredientDictionary> ingredients = encyclopediaRepository.findByNameIn(cachedNames);
 
 		// 조회된 성분을 map으로 변환해 순서 보존
 		Map<String, IngredientDictionary> map = ingredients.stream()
-			.collect(Collectors.toMap(IngredientDictionary::getName, Function.identity()));
+			.collect(Collectors.toMap(IngredientDictionary::getName, Function.identity(), (first, second) -> first));
 
 		return cachedNames.stream()
 			.map(map::get)
@@ -55,4 +179,28 @@ public class AutocompleteCacheService {
 			.toList();
 	}
 
+	private String serialize(IngredientSearchResult result) throws JsonProcessingException {
+		List<List<String>> rows = result.results().stream()
+			.map(r -> Arrays.asList(r.getId(), r.getName(), r.getEngName(), r.getType(), r.getRiskLevel()))
+			.toList();
+		return objectMapper.writeValueAsString(new Payload(result.tier(), result.suggestedName(), rows));
+	}
+
+	private IngredientSearchResult deserialize(String payload) throws JsonProcessingException {
+		Payload cached = objectMapper.readValue(payload, Payload.class);
+		List<EncyclopediaSearchResponse> results = cached.r().stream()
+			.map(row -> EncyclopediaSearchResponse.builder()
+				.id(row.get(0))
+				.name(row.get(1))
+				.engName(row.get(2))
+				.type(row.get(3))
+				.riskLevel(row.get(4))
+				.build())
+			.toList();
+		return new IngredientSearchResult(cached.t(), cached.s(), results);
+	}
+
+	// L2 저장 형식 (필드명을 줄여 payload 크기 최소화)
+	record Payload(SearchTier t, String s, List<List<String>> r) {
+	}
 }
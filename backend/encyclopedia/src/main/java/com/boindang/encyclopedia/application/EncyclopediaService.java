@@ -4,18 +4,14 @@ import com.boindang.encyclopedia.application.mapper.EncyclopediaMapper;
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
 import com.boindang.encyclopedia.common.exception.IngredientNotFoundException;
 import com.boindang.encyclopedia.common.exception.InvalidIngredientQueryException;
-import com.boindang.encyclopedia.domain.IngredientDictionary;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaDetailResponse;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 import com.boindang.encyclopedia.presentation.dto.response.IngredientListResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.elasticsearch.common.unit.Fuzziness;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -43,9 +39,6 @@ public class EncyclopediaService {
     private final PopularIngredientService popularIngredientService;
     private RedisTemplate<String, String> redisTemplate;
 
-    @Autowired
-    private ObjectMapper objectMapper;
-
     private static final Set<String> VALID_TYPES = Set.of("감미료", "식품첨가물", "단백질", "당류", "탄수화물", "식이섬유", "지방", "비타민", "미네랄");
 
     public EncyclopediaDetailResponse getIngredientDetail(String id) {
@@ -99,29 +92,4 @@ public class EncyclopediaService {
         }
     }
 
-    public EncyclopediaSearchResponse searchFuzzy(String query) {
-        try {
-            SearchSourceBuilder builder = new SearchSourceBuilder()
-                .query(QueryBuilders.matchQuery("name", query)
-                    .fuzziness(Fuzziness.TWO)
-                    .prefixLength(0)
-                    .maxExpansions(50)
-                    .fuzzyTranspositions(true))
-                .size(1);
-
-            SearchRequest request = new SearchRequest("ingredients").source(builder);
-            SearchResponse response = client.search(request, RequestOptions.DEFAULT);
-
-            return Arrays.stream(response.getHits().getHits())
-                .findFirst()
-                .map(hit -> objectMapper.convertValue(hit.getSourceAsMap(), IngredientDictionary.class)) // ✅ 타입 변환
-                .map(EncyclopediaSearchResponse::from) // ✅ DTO 변환
-                .orElse(null);
-
-        } catch (Exception e) {
-            log.error("❌ Elasticsearch fuzzy 검색 실패: {}", e.getMessage(), e);
-            return null;
-        }
-    }
-
 }
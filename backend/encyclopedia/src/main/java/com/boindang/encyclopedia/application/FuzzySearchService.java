@@ -1,66 +1,60 @@
 package com.boindang.encyclopedia.application;
 
-import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import org.elasticsearch.action.search.SearchRequest;
-import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.client.RequestOptions;
-import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.Fuzziness;
-import org.elasticsearch.index.query.QueryBuilders;
-import org.elasticsearch.search.builder.SearchSourceBuilder;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.boindang.encyclopedia.common.exception.ElasticSearchException;
-import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.boindang.encyclopedia.application.autocomplete.HangulJamo;
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
+import com.boindang.encyclopedia.application.autocomplete.JamoBkTree;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FuzzySearchService {
 
-	private final RestHighLevelClient client; // Elasticsearch 클라이언트 (Spring에서 주입됨)
+	public static final int DEFAULT_MAX_DISTANCE = 3;
+
+	private final IngredientTrieIndex ingredientTrieIndex;
+	private final MeterRegistry meterRegistry;
+	private final int maxDistance;
+
+	public FuzzySearchService(
+		IngredientTrieIndex ingredientTrieIndex,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.fuzzy.max-distance:" + DEFAULT_MAX_DISTANCE + "}") int maxDistance
+	) {
+		this.ingredientTrieIndex = ingredientTrieIndex;
+		this.meterRegistry = meterRegistry;
+		this.maxDistance = maxDistance;
+	}
 
 	/**
-	 * Elasticsearch에서 오타 대응(Fuzzy) 검색을 수행
+	 * 인메모리 자모 BK-tree 오타 대응 검색 (네트워크 호출 없음)
 	 *
-	 * - 사용자가 입려한 query가 정확하지 않아도 비슷한 성분 이름을 검색
-	 * - matchQuery + fuzziness 옵션을 사용하여 최대 2글자까지 오타 허용
-	 * - 가장 유사한 결과 하나만 반환
-	 *
-	 * @param query 사용자가 입력한 검색어
-	 * @return 유사한 성분이 있으면 해당 성분의 응답 객체, 없으면 null
+	 * - 허용 거리는 allowedDistance 규칙을 따릅니다. (최대 encyclopedia.fuzzy.max-distance)
+	 * - 인덱스가 아직 준비되지 않았으면 빈 결과를 반환합니다.
 	 */
-	public EncyclopediaSearchResponse searchFuzzy(String query) {
-		try {
-			// 1. 검색 조건 구성 (matchQuery + fuzzy)
-			SearchSourceBuilder builder = new SearchSourceBuilder()
-				.query(QueryBuilders.matchQuery("name", query)
-					.fuzziness(Fuzziness.TWO) // 최대 2글자 오타 허용
-					.prefixLength(0) // 처음 글자부터 오타 허용
-					.maxExpansions(50) // 최대 후보군 수
-					.fuzzyTranspositions(true)) // 철자 전환 허용 (ex. ab -> ba)
-				.size(1); // 가장 유사한 결과 1개만
-
-			// 2. Elasticsearch 검색 요청 실행
-			SearchResponse response = client.search(
-				new SearchRequest("ingredients").source(builder),
-				RequestOptions.DEFAULT
-			);
-
-			// 3. 검색 결과 중 가장 유사한 결과 1개만 가져옴
-			return Arrays.stream(response.getHits().getHits())
-				.findFirst() // 결과 1개만
-				.map(hit -> EncyclopediaSearchResponse.from2(hit.getSourceAsMap()))
-				.orElse(null); // 없으면 null 반환
+	public Optional<JamoBkTree.FuzzyMatch> searchLocal(String query) {
+		if (!ingredientTrieIndex.isReady()) return Optional.empty();
+
+		long start = System.nanoTime();
+		Optional<JamoBkTree.FuzzyMatch> match = ingredientTrieIndex.closest(query, allowedDistance(query, maxDistance));
+		meterRegistry.timer("encyclopedia.search.fuzzy.local", "result", match.isPresent() ? "hit" : "miss")
+			.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return match;
+	}
 
-		} catch (Exception e) {
-			log.error("❌ Fuzzy 검색 실패: query={}, error={}", query, e.getMessage(), e);
-			throw new ElasticSearchException("Fuzzy 검색 중 오류가 발생했습니다.");
-		}
+	/**
+	 * 오타 허용 거리: 입력 길이에 비례 (자모 4개 이하 1, 이후 6개마다 1씩, 최대 maxDistance)
+	 *
+	 * - 오타 교정 recall 테스트도 같은 규칙을 사용합니다.
+	 */
+	public static int allowedDistance(String query, int maxDistance) {
+		int length = HangulJamo.decompose(query).length();
+		if (length <= 4) return 1;
+		return Math.min(maxDistance, 1 + length / 6);
 	}
 }
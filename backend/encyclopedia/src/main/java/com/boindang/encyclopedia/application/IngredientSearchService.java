@@ -3,13 +3,22 @@ package com.boindang.encyclopedia.application;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.boindang.encyclopedia.application.autocomplete.HangulJamo;
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
+import com.boindang.encyclopedia.application.autocomplete.JamoBkTree;
+import com.boindang.encyclopedia.application.search.IngredientSearchResult;
+import com.boindang.encyclopedia.application.search.SearchTier;
+import com.boindang.encyclopedia.application.search.UnifiedSearchService;
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,8 +29,10 @@ public class IngredientSearchService {
 
 	private final EncyclopediaRepository encyclopediaRepository;
 	private final AutocompleteCacheService cacheService;
-	private final AutocompleteSearchService autocompleteSearchService;
+	private final UnifiedSearchService unifiedSearchService;
 	private final FuzzySearchService fuzzySearchService;
+	private final IngredientTrieIndex ingredientTrieIndex;
+	private final MeterRegistry meterRegistry;
 
 	public Map<String, Object> search(String query, boolean flag) {
 		Map<String, Object> result = new LinkedHashMap<>();
@@ -41,42 +52,46 @@ public class IngredientSearchService {
 			return result;
 		}
 
+		Timer.Sample sample = Timer.start(meterRegistry);
+		SearchTier tier = SearchTier.NONE;
 		try {
-			// 1️⃣ 'ㅁ'과 같이 초성까지만 입력: Redis 캐싱을 통한 자동완성 조회
-			if (query.length() == 1 && query.matches("^[ㄱ-ㅎ]$")) {
-				List<EncyclopediaSearchResponse> cached = cacheService.getCachedAutocomplete(query);
-				result.put("suggestedName", null);
-				if (!cached.isEmpty()) {
-					result.put("results", cached);
-					return result;
-				}
+			IngredientSearchResult searched = searchSuggested(query);
+			tier = searched.tier();
 
-				result.put("results", List.of());
-				return result;
-			}
-
-			// 2️⃣ Elasticsearch 자동완성 fallback (edge_ngram 기반 prefix 검색)
-			List<EncyclopediaSearchResponse> autoResults = autocompleteSearchService.searchAutocomplete(query);
-			if (!autoResults.isEmpty()) {
-				result.put("suggestedName", null);
-				result.put("results", autoResults);
-				return result;
-			}
-
-			// 3️⃣ Fuzzy 검색 (오타 대응)
-			EncyclopediaSearchResponse fuzzy = fuzzySearchService.searchFuzzy(query);
-			if (fuzzy != null) {
-				result.put("suggestedName", !fuzzy.getName().equalsIgnoreCase(query) ? fuzzy.getName() : null);
-				result.put("results", List.of(fuzzy));
-				return result;
-			}
-
-			result.put("suggestedName", null);
-			result.put("results", List.of());
+			result.put("suggestedName", searched.suggestedName());
+			result.put("results", searched.results());
 			return result;
+		} catch (ElasticSearchException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("❌ Elasticsearch 검색 중 오류 - query={}, message={}", query, e.getMessage(), e);
 			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		} finally {
+			// 단계별 응답 지연 (오타 입력은 tier=fuzzy 의 p95 로 확인)
+			sample.stop(meterRegistry.timer("encyclopedia.search.latency", "tier", tier.tag()));
 		}
 	}
+
+	private IngredientSearchResult searchSuggested(String query) {
+		// 1️⃣ 인메모리 트라이 자동완성 (초성 "ㅁㅌ", 음절 "말", 혼합 "말ㅌ", 영문 "malt" prefix)
+		if (ingredientTrieIndex.isReady()) {
+			List<EncyclopediaSearchResponse> local = ingredientTrieIndex.search(query);
+			// 초성만 입력된 경우 ES 로 넘겨도 찾을 수 없으므로 빈 결과로 종료
+			if (!local.isEmpty() || HangulJamo.isChosungOnly(query)) {
+				return IngredientSearchResult.of(SearchTier.TRIE, local);
+			}
+
+			// 2️⃣ 인메모리 자모 BK-tree 오타 대응 ("말티똘" → 말티톨)
+			Optional<JamoBkTree.FuzzyMatch> typo = fuzzySearchService.searchLocal(query);
+			if (typo.isPresent()) {
+				return IngredientSearchResult.fuzzy(query, typo.get().ingredient());
+			}
+		} else if (HangulJamo.isChosungOnly(query)) {
+			// 트라이 준비 전: 'ㅁ', 'ㅁㅌ'과 같이 초성만 입력하면 Redis 캐싱을 통한 자동완성 조회
+			return IngredientSearchResult.of(SearchTier.CHOSUNG, cacheService.getCachedAutocomplete(HangulJamo.chosung(query)));
+		}
+
+		// 3️⃣ 로컬 miss: Elasticsearch prefix 자동완성 + Fuzzy(오타 대응)를 한 번의 _msearch 로 조회 (결과는 캐시)
+		return cacheService.getOrLoad("search::" + query, () -> unifiedSearchService.search(query));
+	}
 }
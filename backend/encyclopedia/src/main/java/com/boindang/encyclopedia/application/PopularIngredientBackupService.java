@@ -1,45 +1,154 @@
 package com.boindang.encyclopedia.application;
 
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
 import com.boindang.encyclopedia.domain.PopularIngredientBackup;
-import com.boindang.encyclopedia.infrastructure.PopularIngredientBackupRepository;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+import com.boindang.encyclopedia.infrastructure.PopularIngredientBackupJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.Set;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 일별 인기 검색 ZSET(popular:ingredients) 백업 및 초기화
+ *
+ * - 라이브 키를 날짜별 임시 키(popular:ingredients:backup:{yyyyMMdd})로 RENAME 한 뒤 임시 키만 비우므로,
+ *   백업 중에 들어온 검색 횟수는 새 라이브 키에 쌓여 유실되지 않습니다.
+ * - 임시 키는 ZSCAN 으로 나눠 읽고 BATCH_SIZE 단위 JDBC batch upsert 로 저장하며, 저장이 끝난 뒤에만 삭제합니다.
+ * - 이전 실행이 도중에 실패해 남은 임시 키는 다음 실행 시 먼저 저장합니다. (upsert 이므로 중복 행 없음)
+ * - 교체는 날짜별 완료 표시(popular:backup-done:{yyyyMMdd})와 함께 Lua 로 한 번에 수행하므로,
+ *   다른 인스턴스가 같은 날짜로 다시 실행해도 자정 이후 쌓인 검색 횟수로 전날 집계를 덮어쓰지 않습니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class PopularIngredientBackupService { // 백업 및 데이터 정리용 서비스
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final PopularIngredientBackupRepository backupRepository;
+    private final PopularIngredientBackupJdbcRepository backupJdbcRepository;
+    private final EncyclopediaRepository encyclopediaRepository;
+    private final IngredientTrieIndex ingredientTrieIndex;
 
     private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
+    private static final String BACKUP_KEY_PREFIX = "popular:ingredients:backup:";
+    private static final DateTimeFormatter BACKUP_KEY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String DONE_KEY_PREFIX = "popular:backup-done:";
+    private static final Duration DONE_TTL = Duration.ofDays(2);
+    private static final int BATCH_SIZE = 500;
+    private static final RedisScript<Long> SWAP_SCRIPT = createScript("scripts/backup-swap.lua");
 
-    public void backupAndClear() {
-        Set<ZSetOperations.TypedTuple<String>> set =
-                redisTemplate.opsForZSet().reverseRangeWithScores(POPULAR_INGREDIENT_KEY, 0, -1);
+    /**
+     * @param backupDate 집계 대상 날짜 (자정 실행 시 전날)
+     */
+    public void backupAndClear(LocalDate backupDate) {
+        drainLeftovers();
 
-        if (set == null || set.isEmpty()) {
+        String date = backupDate.format(BACKUP_KEY_FORMAT);
+        String backupKey = BACKUP_KEY_PREFIX + date;
+
+        // ✅ 이 시점 이후의 검색 횟수는 새 라이브 키로 누적
+        Long swapped = redisTemplate.execute(SWAP_SCRIPT,
+                List.of(POPULAR_INGREDIENT_KEY, backupKey, DONE_KEY_PREFIX + date),
+                String.valueOf(DONE_TTL.toMillis()));
+        if (swapped == null || swapped == 0L) {
+            log.info("✅ 이미 백업된 날짜: {}", backupDate);
+            return;
+        }
+        if (swapped == 2L) {
             log.info("✅ 백업할 인기 성분 없음");
             return;
         }
 
-        LocalDate today = LocalDate.now();
-        set.forEach(entry -> {
-            backupRepository.save(PopularIngredientBackup.builder()
-                    .ingredientName(entry.getValue())
-                    .score(entry.getScore().longValue())
-                    .backupDate(today)
-                    .build());
-        });
+        long saved = drain(backupKey, backupDate);
+        log.info("✅ 인기 성분 백업 및 초기화 완료: {} {}건", backupDate, saved);
+    }
+
+    private void drainLeftovers() {
+        ScanOptions options = ScanOptions.scanOptions().match(BACKUP_KEY_PREFIX + "*").count(100).build();
+        List<String> leftovers = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(leftovers::add);
+        }
+
+        for (String key : leftovers) {
+            LocalDate date = LocalDate.parse(key.substring(BACKUP_KEY_PREFIX.length()), BACKUP_KEY_FORMAT);
+            long saved = drain(key, date);
+            log.warn("⚠️ 이전에 저장하지 못한 인기 성분 백업 복구: {} {}건", date, saved);
+        }
+    }
+
+    // 임시 키를 ZSCAN 으로 나눠 읽어 저장한 뒤 삭제
+    private long drain(String backupKey, LocalDate backupDate) {
+        ScanOptions options = ScanOptions.scanOptions().count(BATCH_SIZE).build();
+        List<ZSetOperations.TypedTuple<String>> chunk = new ArrayList<>(BATCH_SIZE);
+        long saved = 0;
+
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(backupKey, options)) {
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == BATCH_SIZE) {
+                    saved += save(chunk, backupDate);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saved += save(chunk, backupDate);
+        }
+
+        redisTemplate.delete(backupKey);
+        return saved;
+    }
+
+    private int save(List<ZSetOperations.TypedTuple<String>> chunk, LocalDate backupDate) {
+        Map<String, String> names = resolveNames(chunk);
+
+        List<PopularIngredientBackup> backups = chunk.stream()
+                .map(entry -> PopularIngredientBackup.builder()
+                        .ingredientId(entry.getValue())
+                        .ingredientName(names.getOrDefault(entry.getValue(), "(이름없음)"))
+                        .score(entry.getScore().longValue())
+                        .backupDate(backupDate)
+                        .build())
+                .toList();
+
+        backupJdbcRepository.batchUpsert(backups, backupDate);
+        return backups.size();
+    }
+
+    // 성분명은 인메모리 인덱스에서, 없는 id 만 ES 조회
+    private Map<String, String> resolveNames(List<ZSetOperations.TypedTuple<String>> chunk) {
+        Map<String, String> names = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> entry : chunk) {
+            ingredientTrieIndex.findNameById(entry.getValue())
+                    .ifPresentOrElse(name -> names.put(entry.getValue(), name), () -> missing.add(entry.getValue()));
+        }
+        if (!missing.isEmpty()) {
+            encyclopediaRepository.findByIdIn(missing)
+                    .forEach(ingredient -> names.put(ingredient.getId(), ingredient.getName()));
+        }
+        return names;
+    }
 
-        redisTemplate.delete(POPULAR_INGREDIENT_KEY);
-        log.info("✅ 인기 성분 백업 및 초기화 완료");
+    private static RedisScript<Long> createScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
     }
 }
@@ -0,0 +1,83 @@
+package com.boindang.encyclopedia.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 검색 횟수 write-behind 버퍼
+ *
+ * - 요청 경로에서는 성분 id 별 LongAdder 만 증가시키고 (네트워크 I/O 없음)
+ * - 주기적으로 누적분을 일별 ZSET(popular:ingredients, 자정 백업 대상)과 현재 시간 버킷 ZSET(슬라이딩 윈도우 집계용)에
+ *   파이프라인 한 번(ZINCRBY × 2N + EXPIRE × 2)으로 반영합니다.
+ * - 반영에 실패하면 누적분을 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+ * - 성분 id 는 정확 일치 성분만 들어오므로 버퍼 크기는 성분 수를 넘지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularIngredientCounter {
+
+	private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
+	private static final Duration POPULAR_INGREDIENT_TTL = Duration.ofDays(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Map<String, LongAdder> buffer = new ConcurrentHashMap<>();
+
+	public void increment(String ingredientId) {
+		buffer.computeIfAbsent(ingredientId, id -> new LongAdder()).increment();
+	}
+
+	@Scheduled(fixedDelayString = "${encyclopedia.popular.flush-interval:1000}")
+	public void flush() {
+		Map<String, Long> pending = drain();
+		if (pending.isEmpty()) return;
+
+		try {
+			byte[] key = POPULAR_INGREDIENT_KEY.getBytes(StandardCharsets.UTF_8);
+			byte[] bucketKey = TrendingBuckets.bucketKey(LocalDateTime.now(TrendingBuckets.ZONE))
+				.getBytes(StandardCharsets.UTF_8);
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				pending.forEach((id, count) -> {
+					byte[] member = id.getBytes(StandardCharsets.UTF_8);
+					connection.zSetCommands().zIncrBy(key, count, member);
+					connection.zSetCommands().zIncrBy(bucketKey, count, member);
+				});
+				connection.keyCommands().expire(key, POPULAR_INGREDIENT_TTL.toSeconds());
+				connection.keyCommands().expire(bucketKey, TrendingBuckets.BUCKET_TTL.toSeconds());
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("❌ 인기 검색 횟수 반영 실패, 다음 주기에 재시도: {}개 성분, {}", pending.size(), e.getMessage());
+			pending.forEach((id, count) -> buffer.computeIfAbsent(id, k -> new LongAdder()).add(count));
+		}
+	}
+
+	// 종료 직전 남은 누적분 반영
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private Map<String, Long> drain() {
+		Map<String, Long> pending = new HashMap<>();
+		buffer.forEach((id, adder) -> {
+			long count = adder.sumThenReset();
+			if (count > 0) pending.put(id, count);
+		});
+		return pending;
+	}
+}
@@ -1,5 +1,6 @@
 package com.boindang.encyclopedia.application;
 
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
 import com.boindang.encyclopedia.domain.IngredientDictionary;
 import com.boindang.encyclopedia.domain.PopularIngredientBackup;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
@@ -14,17 +15,12 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,31 +28,37 @@ import java.util.stream.Collectors;
 @Service
 public class PopularIngredientService {
 
-    private final RedisTemplate<String, String> redisTemplate;
     private final PopularIngredientBackupRepository backupRepository;
     private final EncyclopediaRepository encyclopediaRepository;
     private final RestHighLevelClient client;
-    private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
+    private final IngredientTrieIndex ingredientTrieIndex;
+    private final PopularIngredientCounter popularIngredientCounter;
+    private final TrendingIngredientService trendingIngredientService;
 
     public String incrementSearchCount(String query) {
         // 성분명(한글)이 정확히 일치하는 경우
-        if (existsByExactName(query)) {
+        Optional<String> ingredientId = findIdByExactName(query);
 
-            // ✅ query = "말티톨" → ES에서 ID("maltitol") 조회
-            Optional<IngredientDictionary> result = encyclopediaRepository.findByName(query).stream().findFirst();
+        if (ingredientId.isPresent()) {
+            // ✅ query = "말티톨" → ID("maltitol") 로컬 버퍼에 누적, Redis 반영은 주기적으로 일괄 처리
+            popularIngredientCounter.increment(ingredientId.get());
+            return "\"" + query + "\"(이)가 인기 검색어로 등록되었습니다.";
+        }
 
-            if (result.isPresent()) {
-                String ingredientId = result.get().getId(); // ✅ 이거 추가!
-                redisTemplate.opsForZSet().incrementScore(POPULAR_INGREDIENT_KEY, ingredientId, 1);
-                redisTemplate.expire(POPULAR_INGREDIENT_KEY, Duration.ofDays(1));
-                return "\"" + query + "\"(이)가 인기 검색어로 등록되었습니다.";
-            }
+        return "'" + query + "'은(는) 정확 일치 성분이 아니므로 저장되지 않았습니다.";
+    }
 
-            // 이름은 존재하지만 ID 조회 실패 시 fallback
-            return "\"" + query + "\"의 ID를 찾을 수 없어 저장하지 않았습니다.";
+    private Optional<String> findIdByExactName(String name) {
+        // ✅ 인메모리 성분명 → id 맵 (네트워크 I/O 없음)
+        if (ingredientTrieIndex.isReady()) {
+            return ingredientTrieIndex.findIdByExactName(name);
         }
 
-        return "'" + query + "'은(는) 정확 일치 성분이 아니므로 저장되지 않았습니다.";
+        // 인덱스 준비 전: ES 정확 일치 확인 후 ID 조회
+        if (!existsByExactName(name)) return Optional.empty();
+        return encyclopediaRepository.findByName(name).stream()
+            .findFirst()
+            .map(IngredientDictionary::getId);
     }
 
     // TODO: 정확 일치 검색은 추후 Custom Repository로 분리 고려
@@ -76,33 +78,16 @@ public class PopularIngredientService {
         }
     }
 
-    public List<PopularIngredientResponse> getTopIngredients(int limit) {
-        Set<ZSetOperations.TypedTuple<String>> result =
-            redisTemplate.opsForZSet().reverseRangeWithScores(POPULAR_INGREDIENT_KEY, 0, limit - 1);
-
-        if (result != null && !result.isEmpty()) {
-            List<String> ids = result.stream()
-                .map(ZSetOperations.TypedTuple::getValue)
-                .toList();
-
-            List<IngredientDictionary> ingredients = encyclopediaRepository.findByIdIn(ids);
-            log.info("📦 ES 조회 결과: {}", ingredients);
-
-            Map<String, String> idToNameMap = ingredients.stream()
-                .collect(Collectors.toMap(IngredientDictionary::getId, IngredientDictionary::getName));
-
-            return result.stream()
-                .map(entry -> {
-                    String id = entry.getValue();
-                    String name = idToNameMap.getOrDefault(id, "(이름없음)");
-                    return new PopularIngredientResponse(id, name, entry.getScore().longValue());
-                })
-                .toList();
+    public List<PopularIngredientResponse> getTopIngredients(int limit, TrendingWindow window) {
+        // ✅ 시간 버킷 가중 합산 결과 (로컬 캐시된 top-N)
+        List<PopularIngredientResponse> trending = trendingIngredientService.getTop(window, limit);
+        if (!trending.isEmpty()) {
+            return trending;
         }
 
-    // ✅ Redis에 없을 경우, 어제 날짜 기준으로 fallback
-        LocalDate today = LocalDate.now();
-        List<PopularIngredientBackup> backupList = backupRepository.findTopNByBackupDate(today, limit);
+        // ✅ Redis에 없을 경우, 어제 날짜 기준으로 fallback (자정 백업은 전날 날짜로 저장됨)
+        LocalDate yesterday = LocalDate.now(TrendingBuckets.ZONE).minusDays(1);
+        List<PopularIngredientBackup> backupList = backupRepository.findTopNByBackupDate(yesterday, limit);
 
         return backupList.stream()
             .map(backup -> new PopularIngredientResponse(
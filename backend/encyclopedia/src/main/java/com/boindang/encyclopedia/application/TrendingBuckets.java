@@ -0,0 +1,99 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 단위 인기 검색 버킷(popular:ingredients:h:{yyyyMMddHH})과 구간별 가중 합산
+ *
+ * - 구간(1h/24h/7d)별로 버킷들을 ZUNIONSTORE WEIGHTS 로 합산하며, 가중치는 지수 감쇠 × (가장 오래된 버킷은 구간에 남은 비율)
+ * - 합산, 조회, 결과 키 삭제는 Lua 로 한 번에 수행하므로 여러 인스턴스/호출이 동시에 합산해도 서로의 결과를 덮어쓰지 않습니다.
+ * - 인메모리 자동완성 인덱스도 정렬에 사용하므로 성분 인덱스(IngredientTrieIndex)에 의존하지 않습니다.
+ */
+@Component
+public class TrendingBuckets {
+
+	public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	public static final Duration BUCKET_TTL = Duration.ofDays(8); // 7일 구간 + 여유
+	private static final String BUCKET_PREFIX = "popular:ingredients:h:";
+	private static final String WINDOW_PREFIX = "popular:window:";
+	private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+	private static final RedisScript<List> TOP_SCRIPT = createScript("scripts/trending-top.lua");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Clock clock;
+
+	@Autowired
+	public TrendingBuckets(RedisTemplate<String, String> redisTemplate) {
+		this(redisTemplate, Clock.system(ZONE));
+	}
+
+	public TrendingBuckets(RedisTemplate<String, String> redisTemplate, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.clock = clock;
+	}
+
+	public static String bucketKey(LocalDateTime time) {
+		return BUCKET_PREFIX + time.format(BUCKET_FORMAT);
+	}
+
+	/**
+	 * 구간별 성분 id → 감쇠 점수 (초성 자동완성/트라이 정렬 등 전체 점수가 필요한 곳에서 사용)
+	 */
+	public Map<String, Double> scores(TrendingWindow window) {
+		Map<String, Double> scores = new HashMap<>();
+		top(window, -1).forEach(t -> scores.put(t.getValue(), t.getScore()));
+		return scores;
+	}
+
+	/**
+	 * 구간 버킷을 가중 합산해 점수 내림차순 상위 limit 개 조회
+	 *
+	 * @param limit -1 이면 전체
+	 */
+	public Set<ZSetOperations.TypedTuple<String>> top(TrendingWindow window, int limit) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		double remaining = 1.0 - now.getMinute() / 60.0; // 가장 오래된 버킷 중 아직 구간에 걸친 비율
+
+		List<String> keys = new ArrayList<>(window.hours() + 2);
+		List<String> args = new ArrayList<>(window.hours() + 2);
+		keys.add(WINDOW_PREFIX + window.label());
+		args.add(String.valueOf(limit < 0 ? -1 : limit - 1));
+		for (int age = 0; age <= window.hours(); age++) {
+			keys.add(bucketKey(now.minusHours(age)));
+			args.add(String.valueOf(window.decay(age) * (age == window.hours() ? remaining : 1.0)));
+		}
+
+		List<?> flat = redisTemplate.execute(TOP_SCRIPT, keys, args.toArray());
+		Set<ZSetOperations.TypedTuple<String>> top = new LinkedHashSet<>();
+		if (flat == null) return top;
+		for (int i = 0; i + 1 < flat.size(); i += 2) {
+			top.add(ZSetOperations.TypedTuple.of((String) flat.get(i), Double.valueOf((String) flat.get(i + 1))));
+		}
+		return top;
+	}
+
+	private static RedisScript<List> createScript(String location) {
+		DefaultRedisScript<List> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(List.class);
+		return script;
+	}
+}
@@ -0,0 +1,86 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+import com.boindang.encyclopedia.presentation.dto.response.PopularIngredientResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 버킷 ZSET 기반 슬라이딩 윈도우 인기 성분
+ *
+ * - 검색 횟수는 시간 단위 버킷(popular:ingredients:h:{yyyyMMddHH})에 누적됩니다. (PopularIngredientCounter)
+ * - 구간(1h/24h/7d)별 가중 합산은 TrendingBuckets 가 담당합니다.
+ * - 집계 결과 top-N 은 짧게 로컬 캐시하고 만료 시 백그라운드에서 갱신하므로 조회는 메모리 읽기 한 번입니다.
+ */
+@Slf4j
+@Service
+public class TrendingIngredientService {
+
+	private static final int MAX_TOP = 100;
+
+	private final TrendingBuckets trendingBuckets;
+	private final IngredientTrieIndex ingredientTrieIndex;
+	private final EncyclopediaRepository encyclopediaRepository;
+	private final LoadingCache<TrendingWindow, List<PopularIngredientResponse>> topCache;
+
+	public TrendingIngredientService(
+		TrendingBuckets trendingBuckets,
+		IngredientTrieIndex ingredientTrieIndex,
+		EncyclopediaRepository encyclopediaRepository,
+		@Value("${encyclopedia.popular.top-cache-ttl:5s}") Duration topCacheTtl
+	) {
+		this.trendingBuckets = trendingBuckets;
+		this.ingredientTrieIndex = ingredientTrieIndex;
+		this.encyclopediaRepository = encyclopediaRepository;
+		this.topCache = Caffeine.newBuilder()
+			.refreshAfterWrite(topCacheTtl) // 만료 후 첫 조회는 이전 값을 반환하고 백그라운드에서 다시 집계
+			.build(window -> materialize(window, MAX_TOP));
+	}
+
+	/**
+	 * 구간별 인기 성분 top-N (최대 100개, 로컬 캐시)
+	 */
+	public List<PopularIngredientResponse> getTop(TrendingWindow window, int limit) {
+		List<PopularIngredientResponse> top = topCache.get(window);
+		return top.subList(0, Math.min(Math.max(limit, 0), top.size()));
+	}
+
+	private List<PopularIngredientResponse> materialize(TrendingWindow window, int limit) {
+		Set<ZSetOperations.TypedTuple<String>> tuples = trendingBuckets.top(window, limit);
+		if (tuples == null || tuples.isEmpty()) return List.of();
+
+		// 성분명은 인메모리 인덱스에서, 없는 id 만 ES 조회
+		Map<String, String> names = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			ingredientTrieIndex.findNameById(tuple.getValue())
+				.ifPresentOrElse(name -> names.put(tuple.getValue(), name), () -> missing.add(tuple.getValue()));
+		}
+		if (!missing.isEmpty()) {
+			encyclopediaRepository.findByIdIn(missing)
+				.forEach(ingredient -> names.put(ingredient.getId(), ingredient.getName()));
+		}
+
+		return tuples.stream()
+			.map(t -> new PopularIngredientResponse(
+				t.getValue(),
+				names.getOrDefault(t.getValue(), "(이름없음)"),
+				Math.round(t.getScore())))
+			.filter(response -> response.count() > 0)
+			.toList();
+	}
+}
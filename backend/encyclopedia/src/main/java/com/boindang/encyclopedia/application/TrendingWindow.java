@@ -0,0 +1,50 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.Arrays;
+
+import com.boindang.encyclopedia.common.exception.InvalidIngredientQueryException;
+
+/**
+ * 인기 성분 집계 구간
+ *
+ * - hours: 구간 길이 (시간 버킷 수)
+ * - halfLifeHours: 지수 감쇠 반감기 (0 이면 감쇠 없이 합산), 최근 검색일수록 높은 가중치
+ */
+public enum TrendingWindow {
+	HOUR("1h", 1, 0),
+	DAY("24h", 24, 6),
+	WEEK("7d", 24 * 7, 48);
+
+	private final String label;
+	private final int hours;
+	private final int halfLifeHours;
+
+	TrendingWindow(String label, int hours, int halfLifeHours) {
+		this.label = label;
+		this.hours = hours;
+		this.halfLifeHours = halfLifeHours;
+	}
+
+	public static TrendingWindow from(String label) {
+		return Arrays.stream(values())
+			.filter(window -> window.label.equalsIgnoreCase(label))
+			.findFirst()
+			.orElseThrow(() -> new InvalidIngredientQueryException("지원하지 않는 집계 구간입니다. (1h, 24h, 7d)"));
+	}
+
+	public String label() {
+		return label;
+	}
+
+	public int hours() {
+		return hours;
+	}
+
+	/**
+	 * ageHours 시간 전 버킷의 가중치 (현재 시간 버킷 = 0)
+	 */
+	public double decay(int ageHours) {
+		if (halfLifeHours == 0) return 1.0;
+		return Math.pow(0.5, ageHours / (double) halfLifeHours);
+	}
+}
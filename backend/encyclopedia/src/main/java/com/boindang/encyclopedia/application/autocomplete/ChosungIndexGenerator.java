@@ -0,0 +1,172 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.boindang.encyclopedia.application.TrendingBuckets;
+import com.boindang.encyclopedia.application.TrendingWindow;
+import com.boindang.encyclopedia.infrastructure.IngredientIndexScanner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ingredients 인덱스 전체로부터 초성 자동완성 목록(autocomplete::{초성 prefix})을 생성
+ *
+ * - 성분명의 앞쪽 초성 시퀀스마다 (ㅁ, ㅁㅌ, ㅁㅌㅌ) 상위 maxResults 개의 이름을 저장합니다.
+ * - 정렬: 최근 7일 인기 검색 점수(감쇠 합산) 내림차순 → 짧은 이름 → 가나다순
+ * - staging 키에 파이프라인으로 모두 쓴 뒤 Lua 스크립트 한 번으로 RENAME 교체하므로
+ *   조회 측은 항상 완성된 이전/새 목록 중 하나만 보게 됩니다.
+ */
+@Slf4j
+@Service
+public class ChosungIndexGenerator {
+
+	public static final String KEY_PREFIX = "autocomplete::";
+	private static final String STAGING_PREFIX = "autocomplete:staging::";
+	private static final Duration STAGING_TTL = Duration.ofMinutes(10); // 교체 전에 실패하면 자동 정리
+
+	private static final RedisScript<Long> SWAP_SCRIPT = createScript("scripts/swap-autocomplete.lua");
+
+	private final IngredientIndexScanner indexScanner;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final TrendingBuckets trendingBuckets;
+	private final int maxResults;
+
+	public ChosungIndexGenerator(
+		IngredientIndexScanner indexScanner,
+		RedisTemplate<String, String> redisTemplate,
+		TrendingBuckets trendingBuckets,
+		@Value("${encyclopedia.autocomplete.chosung.max-results:10}") int maxResults
+	) {
+		this.indexScanner = indexScanner;
+		this.redisTemplate = redisTemplate;
+		this.trendingBuckets = trendingBuckets;
+		this.maxResults = maxResults;
+	}
+
+	/**
+	 * 초성 자동완성 인덱스를 새로 만들어 교체
+	 *
+	 * @return 생성된 초성 prefix 개수
+	 */
+	public int generate() throws IOException {
+		Map<String, List<String>> index = buildIndex(loadNames(), loadPopularity());
+		if (index.isEmpty()) {
+			log.warn("⚠️ 초성 자동완성 생성 건너뜀: ingredients 인덱스에 성분이 없습니다.");
+			return 0;
+		}
+
+		writeStaging(index);
+		int swapped = swap(index.keySet());
+		log.info("✅ 초성 자동완성 인덱스 교체 완료: prefix {}개", swapped);
+		return swapped;
+	}
+
+	/**
+	 * 초성 prefix → 순위대로 정렬된 성분명 목록
+	 *
+	 * @param names      성분 id → 성분명
+	 * @param popularity 성분 id → 인기 검색 점수
+	 */
+	public Map<String, List<String>> buildIndex(Map<String, String> names, Map<String, Double> popularity) {
+		// 같은 이름의 문서가 여러 개면 가장 높은 점수로 한 번만 노출
+		Map<String, Double> scoreByName = new HashMap<>();
+		names.forEach((id, name) -> scoreByName.merge(name, popularity.getOrDefault(id, 0.0), Math::max));
+
+		List<String> ranked = scoreByName.keySet().stream()
+			.sorted(Comparator.comparing((String name) -> scoreByName.get(name)).reversed()
+				.thenComparingInt(String::length)
+				.thenComparing(Comparator.naturalOrder()))
+			.toList();
+
+		Map<String, List<String>> index = new LinkedHashMap<>();
+		for (String name : ranked) {
+			String chosung = leadingChosung(name);
+			for (int end = 1; end <= chosung.length(); end++) {
+				List<String> list = index.computeIfAbsent(chosung.substring(0, end), k -> new ArrayList<>());
+				if (list.size() < maxResults) list.add(name);
+			}
+		}
+		return index;
+	}
+
+	// "비타민 B12" → "ㅂㅌㅁ" (초성 검색은 자음만 입력하므로 한글 이후 문자는 제외)
+	private String leadingChosung(String name) {
+		String chosung = HangulJamo.chosung(name);
+		int end = 0;
+		while (end < chosung.length() && HangulJamo.isChosungOnly(chosung.substring(end, end + 1))) end++;
+		return chosung.substring(0, end);
+	}
+
+	private Map<String, String> loadNames() throws IOException {
+		Map<String, String> names = new HashMap<>();
+		for (Map<String, Object> source : indexScanner.scanAll("id", "name")) {
+			String name = (String) source.get("name");
+			if (name != null && !name.isBlank()) names.put((String) source.get("id"), name);
+		}
+		return names;
+	}
+
+	private Map<String, Double> loadPopularity() {
+		return trendingBuckets.scores(TrendingWindow.WEEK);
+	}
+
+	private void writeStaging(Map<String, List<String>> index) {
+		long ttlMillis = STAGING_TTL.toMillis();
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			index.forEach((prefix, names) -> {
+				byte[] key = (STAGING_PREFIX + prefix).getBytes(StandardCharsets.UTF_8);
+				byte[][] values = names.stream()
+					.map(name -> name.getBytes(StandardCharsets.UTF_8))
+					.toArray(byte[][]::new);
+
+				connection.keyCommands().del(key);
+				connection.listCommands().rPush(key, values);
+				connection.keyCommands().pExpire(key, ttlMillis);
+			});
+			return null;
+		});
+	}
+
+	private int swap(Set<String> prefixes) {
+		List<String> keys = new ArrayList<>(prefixes.size() * 2);
+		prefixes.forEach(prefix -> keys.add(STAGING_PREFIX + prefix));
+		prefixes.forEach(prefix -> keys.add(KEY_PREFIX + prefix));
+
+		// 더 이상 어떤 성분에도 해당하지 않는 기존 live 키 (예: 하드코딩 시절의 잘못된 목록)
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(key -> {
+				if (!prefixes.contains(key.substring(KEY_PREFIX.length()))) keys.add(key);
+			});
+		}
+
+		Long swapped = redisTemplate.execute(SWAP_SCRIPT, keys, String.valueOf(prefixes.size()));
+		return swapped == null ? 0 : swapped.intValue();
+	}
+
+	private static RedisScript<Long> createScript(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
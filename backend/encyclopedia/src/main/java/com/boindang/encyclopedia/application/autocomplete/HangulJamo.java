@@ -0,0 +1,96 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+/**
+ * 한글 음절 ↔ 자모 분해 유틸리티
+ *
+ * - 완성형 음절(가~힣)을 호환 자모(ㄱ, ㅏ …)로 분해합니다.
+ * - 겹모음/겹받침(ㅘ, ㄳ 등)은 입력 순서대로 풀어서 "오" → "와", "갑" → "값" 처럼 타이핑 중간 상태도 prefix 로 매칭됩니다.
+ * - 한글이 아닌 문자는 소문자로 바꿔 그대로 두고, 공백은 제거합니다.
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String[] CHOSUNG = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final String[] JUNGSUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+		"ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONGSUNG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+		"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	// 호환 자모 중 단독 입력 가능한 자음 (ㄱ~ㅎ, 겹받침 포함)
+	private static final char CONSONANT_BEGIN = 'ㄱ';
+	private static final char CONSONANT_END = 'ㅎ';
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 문자열을 자모 단위로 분해 ("말티톨" → "ㅁㅏㄹㅌㅣㅌㅗㄹ", "Maltitol" → "maltitol")
+	 */
+	public static String decompose(String text) {
+		StringBuilder sb = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) continue;
+
+			if (isSyllable(c)) {
+				int offset = c - SYLLABLE_BEGIN;
+				sb.append(CHOSUNG[offset / (JUNG_COUNT * JONG_COUNT)])
+					.append(JUNGSUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+					.append(JONGSUNG[offset % JONG_COUNT]);
+			} else {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 문자열의 초성만 추출 ("말티톨" → "ㅁㅌㅌ"), 한글이 아닌 문자는 소문자로 그대로 둡니다.
+	 */
+	public static String chosung(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) continue;
+
+			if (isSyllable(c)) {
+				sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)]);
+			} else {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 공백을 제외한 모든 문자가 자음(ㄱ~ㅎ)인지 여부 ("ㅁㅌ" → true, "말ㅌ" → false)
+	 */
+	public static boolean isChosungOnly(String text) {
+		boolean hasConsonant = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) continue;
+			if (c < CONSONANT_BEGIN || c > CONSONANT_END) return false;
+			hasConsonant = true;
+		}
+		return hasConsonant;
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+}
@@ -0,0 +1,9 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+/**
+ * ingredients 인덱스 내용이 바뀐 것을 감지했을 때 발행 (재색인, 성분 추가/수정)
+ *
+ * @param size 변경 후 성분 수
+ */
+public record IngredientIndexChangedEvent(int size) {
+}
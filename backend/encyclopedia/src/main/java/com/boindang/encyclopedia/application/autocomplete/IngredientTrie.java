@@ -0,0 +1,135 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 성분 자동완성용 불변(immutable) 트라이 스냅샷
+ *
+ * - 자모 트라이: 성분명(국문)과 영문명을 자모 단위로 분해해 저장 → "말", "말ㅌ", "malt" 모두 prefix 매칭
+ * - 초성 트라이: 성분명의 초성 시퀀스를 저장 → "ㅁㅌ" → 말티톨
+ * - 각 노드는 하위 성분 중 상위 maxResults 개를 미리 계산해 두므로 조회는 O(질의 길이) 입니다.
+ * - 빌드 후에는 자식 노드를 정렬된 배열로 압축(이진 탐색)하고, 한 번 만들어진 스냅샷은 수정하지 않습니다.
+ */
+public final class IngredientTrie {
+
+	private static final Node EMPTY_NODE = new Node(new char[0], new Node[0], new EncyclopediaSearchResponse[0]);
+
+	private final Node jamoRoot;
+	private final Node chosungRoot;
+	private final int size;
+
+	private IngredientTrie(Node jamoRoot, Node chosungRoot, int size) {
+		this.jamoRoot = jamoRoot;
+		this.chosungRoot = chosungRoot;
+		this.size = size;
+	}
+
+	/**
+	 * @param ranked     노출 우선순위 순으로 정렬된 성분 목록 (앞쪽일수록 먼저 노출)
+	 * @param maxResults 노드별로 보관할 최대 결과 수
+	 */
+	public static IngredientTrie build(List<EncyclopediaSearchResponse> ranked, int maxResults) {
+		BuildNode jamo = new BuildNode();
+		BuildNode chosung = new BuildNode();
+
+		for (EncyclopediaSearchResponse ingredient : ranked) {
+			if (ingredient.getName() == null || ingredient.getName().isBlank()) continue;
+
+			jamo.insert(HangulJamo.decompose(ingredient.getName()), ingredient, maxResults);
+			if (ingredient.getEngName() != null && !ingredient.getEngName().isBlank()) {
+				jamo.insert(HangulJamo.decompose(ingredient.getEngName()), ingredient, maxResults);
+			}
+			chosung.insert(HangulJamo.chosung(ingredient.getName()), ingredient, maxResults);
+		}
+
+		return new IngredientTrie(jamo.freeze(), chosung.freeze(), ranked.size());
+	}
+
+	public static IngredientTrie empty() {
+		return new IngredientTrie(EMPTY_NODE, EMPTY_NODE, 0);
+	}
+
+	/**
+	 * prefix 자동완성 조회
+	 *
+	 * - 자음만 입력된 경우("ㅁ", "ㅁㅌ") 초성 트라이를, 그 외에는 자모 트라이를 탐색합니다.
+	 *
+	 * @return 우선순위 순 결과 (없으면 빈 리스트)
+	 */
+	public List<EncyclopediaSearchResponse> search(String query) {
+		if (query == null || query.isBlank()) return List.of();
+
+		Node node = HangulJamo.isChosungOnly(query)
+			? chosungRoot.find(HangulJamo.chosung(query))
+			: jamoRoot.find(HangulJamo.decompose(query));
+
+		return node == null ? List.of() : List.of(node.top);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private static final class Node {
+		private final char[] labels; // 정렬된 자식 문자
+		private final Node[] children;
+		private final EncyclopediaSearchResponse[] top;
+
+		private Node(char[] labels, Node[] children, EncyclopediaSearchResponse[] top) {
+			this.labels = labels;
+			this.children = children;
+			this.top = top;
+		}
+
+		private Node find(String key) {
+			Node node = this;
+			for (int i = 0; i < key.length() && node != null; i++) {
+				int idx = Arrays.binarySearch(node.labels, key.charAt(i));
+				node = idx < 0 ? null : node.children[idx];
+			}
+			return node;
+		}
+	}
+
+	private static final class BuildNode {
+		private final Map<Character, BuildNode> children = new HashMap<>();
+		private final List<EncyclopediaSearchResponse> top = new ArrayList<>();
+
+		private void insert(String key, EncyclopediaSearchResponse ingredient, int maxResults) {
+			BuildNode node = this;
+			node.offer(ingredient, maxResults);
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+				node.offer(ingredient, maxResults);
+			}
+		}
+
+		// 우선순위 순으로 삽입되므로 앞에서부터 maxResults 개만 유지, 같은 성분의 국문/영문 경로가 겹치면 한 번만 보관
+		private void offer(EncyclopediaSearchResponse ingredient, int maxResults) {
+			if (top.size() >= maxResults) return;
+			if (!top.isEmpty() && top.get(top.size() - 1) == ingredient) return;
+			top.add(ingredient);
+		}
+
+		private Node freeze() {
+			char[] labels = new char[children.size()];
+			int i = 0;
+			for (Character c : children.keySet()) {
+				labels[i++] = c;
+			}
+			Arrays.sort(labels);
+
+			Node[] frozen = new Node[labels.length];
+			for (int j = 0; j < labels.length; j++) {
+				frozen[j] = children.get(labels[j]).freeze();
+			}
+			return new Node(labels, frozen, top.toArray(new EncyclopediaSearchResponse[0]));
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.TrendingBuckets;
+import com.boindang.encyclopedia.application.TrendingWindow;
+import com.boindang.encyclopedia.infrastructure.IngredientIndexScanner;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ingredients 인덱스로부터 만든 인메모리 자동완성 트라이, 오타 대응 BK-tree, 성분명 ↔ id 맵을 보관하고 교체(hot-swap)하는 컴포넌트
+ *
+ * - 기동 직후 한 번, 이후 주기적으로 인덱스를 훑어 내용이나 순위가 바뀐 경우에만 새 스냅샷으로 교체합니다.
+ * - 순위는 초성 자동완성(ChosungIndexGenerator)과 같은 7일 인기 점수 → 이름 길이 → 가나다순이라 두 경로의 순서가 같습니다.
+ * - 조회는 volatile 참조 하나만 읽으므로 재빌드 중에도 이전 스냅샷으로 끊김 없이 응답합니다.
+ * - 첫 빌드 전(ES 장애 등)에는 isReady() 가 false 이며, 호출 측은 기존 Redis/ES 경로로 fallback 합니다.
+ * - 첫 빌드 이후 (순위가 아닌) 내용 변경을 감지하면 IngredientIndexChangedEvent 를 발행합니다. (초성 목록 재생성, 캐시 무효화)
+ */
+@Slf4j
+@Component
+public class IngredientTrieIndex {
+
+	private static final String[] FIELDS = {"id", "name", "engName", "type", "riskLevel"};
+
+	private final IngredientIndexScanner indexScanner;
+	private final TrendingBuckets trendingBuckets;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int maxResults;
+	private final Timer buildTimer;
+
+	private volatile Snapshot snapshot = new Snapshot(IngredientTrie.empty(), JamoBkTree.empty(), Map.of(), Map.of());
+	private volatile boolean ready = false;
+	private long fingerprint;
+	private long rankingFingerprint;
+	private Map<String, Double> popularity = Map.of();
+
+	public IngredientTrieIndex(
+		IngredientIndexScanner indexScanner,
+		TrendingBuckets trendingBuckets,
+		ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.autocomplete.trie.max-results:10}") int maxResults
+	) {
+		this.indexScanner = indexScanner;
+		this.trendingBuckets = trendingBuckets;
+		this.eventPublisher = eventPublisher;
+		this.maxResults = maxResults;
+		this.buildTimer = meterRegistry.timer("encyclopedia.autocomplete.trie.build");
+		Gauge.builder("encyclopedia.autocomplete.trie.size", this, index -> index.snapshot.trie().size())
+			.register(meterRegistry);
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public List<EncyclopediaSearchResponse> search(String query) {
+		return snapshot.trie().search(query);
+	}
+
+	public Optional<JamoBkTree.FuzzyMatch> closest(String query, int maxDistance) {
+		return snapshot.fuzzy().closest(query, maxDistance);
+	}
+
+	/**
+	 * 성분명(국문)이 정확히 일치하는 성분 id (ES name.keyword term 조회 대체)
+	 */
+	public Optional<String> findIdByExactName(String name) {
+		return Optional.ofNullable(snapshot.idByName().get(name));
+	}
+
+	public Optional<String> findNameById(String id) {
+		return Optional.ofNullable(snapshot.nameById().get(id));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		refresh();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${encyclopedia.autocomplete.trie.refresh-interval:60000}",
+		initialDelayString = "${encyclopedia.autocomplete.trie.refresh-interval:60000}"
+	)
+	public void refresh() {
+		try {
+			rebuild();
+		} catch (Exception e) {
+			log.error("❌ 자동완성 트라이 재빌드 실패 (기존 스냅샷 유지): {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 인덱스 전체를 읽어 내용이나 순위가 달라졌을 때만 새 트라이로 교체
+	 *
+	 * - 변경 이벤트는 락을 놓은 뒤 발행합니다. (리스너가 오래 걸려도 다음 재빌드를 막지 않음)
+	 *
+	 * @return 교체 여부
+	 */
+	public boolean rebuild() throws Exception {
+		Rebuild rebuild = swap();
+		if (rebuild.contentChanged()) {
+			eventPublisher.publishEvent(new IngredientIndexChangedEvent(rebuild.size()));
+		}
+		return rebuild.swapped();
+	}
+
+	private synchronized Rebuild swap() throws Exception {
+		long start = System.nanoTime();
+
+		List<EncyclopediaSearchResponse> scanned = indexScanner.scanAll(FIELDS).stream()
+			.map(EncyclopediaSearchResponse::from2)
+			.filter(r -> r.getName() != null && !r.getName().isBlank())
+			.toList();
+		List<EncyclopediaSearchResponse> ingredients = scanned.stream()
+			.sorted(ranking(scoreByName(scanned, loadPopularity())))
+			.toList();
+
+		long newFingerprint = fingerprint(ingredients);
+		long newRankingFingerprint = rankingFingerprint(ingredients);
+		if (ready && newFingerprint == fingerprint && newRankingFingerprint == rankingFingerprint) {
+			return Rebuild.UNCHANGED;
+		}
+
+		boolean changed = ready && newFingerprint != fingerprint;
+		IngredientTrie built = IngredientTrie.build(ingredients, maxResults);
+		snapshot = new Snapshot(built, JamoBkTree.build(ingredients), idByName(ingredients), nameById(ingredients));
+		fingerprint = newFingerprint;
+		rankingFingerprint = newRankingFingerprint;
+		ready = true;
+
+		buildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		log.info("✅ 자동완성 트라이 교체 완료: {}개 성분, {}ms", built.size(), (System.nanoTime() - start) / 1_000_000);
+		return new Rebuild(true, changed, built.size());
+	}
+
+	// 인기 점수가 높은 이름이 먼저, 같으면 짧은 이름 (ㅁ → 말티톨 이 말토덱스트린 보다 앞), 같은 길이는 가나다순
+	private Comparator<EncyclopediaSearchResponse> ranking(Map<String, Double> scoreByName) {
+		return Comparator.comparingDouble((EncyclopediaSearchResponse r) -> scoreByName.get(r.getName()))
+			.reversed()
+			.thenComparingInt(r -> r.getName().length())
+			.thenComparing(EncyclopediaSearchResponse::getName)
+			.thenComparing(EncyclopediaSearchResponse::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+	}
+
+	// 같은 이름의 문서가 여러 개면 가장 높은 점수로 (초성 자동완성과 동일)
+	private Map<String, Double> scoreByName(List<EncyclopediaSearchResponse> ingredients, Map<String, Double> popularity) {
+		Map<String, Double> scoreByName = new HashMap<>();
+		for (EncyclopediaSearchResponse r : ingredients) {
+			scoreByName.merge(r.getName(), popularity.getOrDefault(r.getId(), 0.0), Math::max);
+		}
+		return scoreByName;
+	}
+
+	// Redis 장애 시 직전 점수로 정렬 (순위가 바뀌어 불필요하게 재빌드하지 않도록)
+	private Map<String, Double> loadPopularity() {
+		try {
+			popularity = trendingBuckets.scores(TrendingWindow.WEEK);
+		} catch (Exception e) {
+			log.warn("⚠️ 인기 점수 조회 실패 (직전 점수로 정렬): {}", e.getMessage());
+		}
+		return popularity;
+	}
+
+	// 내용 비교용 (순서와 무관)
+	private long fingerprint(List<EncyclopediaSearchResponse> ingredients) {
+		long hash = 0;
+		for (EncyclopediaSearchResponse r : ingredients) {
+			hash += Objects.hash(r.getId(), r.getName(), r.getEngName(), r.getType(), r.getRiskLevel());
+		}
+		return hash;
+	}
+
+	// 순위 비교용
+	private long rankingFingerprint(List<EncyclopediaSearchResponse> ingredients) {
+		long hash = 1;
+		for (EncyclopediaSearchResponse r : ingredients) {
+			hash = 31 * hash + Objects.hash(r.getId(), r.getName());
+		}
+		return hash;
+	}
+
+	// 같은 이름의 문서가 여러 개면 우선순위가 앞선(먼저 정렬된) 문서의 id
+	private Map<String, String> idByName(List<EncyclopediaSearchResponse> ingredients) {
+		Map<String, String> idByName = new HashMap<>();
+		for (EncyclopediaSearchResponse r : ingredients) {
+			if (r.getId() != null) idByName.putIfAbsent(r.getName(), r.getId());
+		}
+		return Map.copyOf(idByName);
+	}
+
+	private Map<String, String> nameById(List<EncyclopediaSearchResponse> ingredients) {
+		Map<String, String> nameById = new HashMap<>();
+		for (EncyclopediaSearchResponse r : ingredients) {
+			if (r.getId() != null) nameById.put(r.getId(), r.getName());
+		}
+		return Map.copyOf(nameById);
+	}
+
+	private record Rebuild(boolean swapped, boolean contentChanged, int size) {
+		private static final Rebuild UNCHANGED = new Rebuild(false, false, 0);
+	}
+
+	// 트라이, BK-tree, 이름 맵은 같은 인덱스 내용으로 만들어 한 번에 교체
+	private record Snapshot(
+		IngredientTrie trie,
+		JamoBkTree fuzzy,
+		Map<String, String> idByName,
+		Map<String, String> nameById
+	) {
+	}
+}
@@ -0,0 +1,156 @@
+package com.boindang.encyclopedia.application.autocomplete;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 자모 단위 편집 거리 기반 BK-tree (오타 대응 검색용 불변 스냅샷)
+ *
+ * - 성분명/영문명을 자모로 분해해 저장하므로 "말티똘" → "말티톨" 은 음절 1개가 아니라 자모 1개(ㄸ→ㅌ) 차이로 계산됩니다.
+ * - 편집 거리는 삼각 부등식을 만족하는 Levenshtein 을 사용하며, 탐색 시 |d(q, node) - d(node, child)| <= 허용 거리인 자식만 방문합니다.
+ * - 같은 거리의 후보가 여러 개면 입력 순서(노출 우선순위)가 앞선 성분을 반환합니다.
+ */
+public final class JamoBkTree {
+
+	private final Node root;
+	private final int size;
+
+	private JamoBkTree(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * @param ranked 노출 우선순위 순으로 정렬된 성분 목록
+	 */
+	public static JamoBkTree build(List<EncyclopediaSearchResponse> ranked) {
+		Node root = null;
+		int rank = 0;
+		for (EncyclopediaSearchResponse ingredient : ranked) {
+			if (ingredient.getName() == null || ingredient.getName().isBlank()) continue;
+
+			Entry entry = new Entry(ingredient, rank++);
+			root = insert(root, HangulJamo.decompose(ingredient.getName()), entry);
+			if (ingredient.getEngName() != null && !ingredient.getEngName().isBlank()) {
+				root = insert(root, HangulJamo.decompose(ingredient.getEngName()), entry);
+			}
+		}
+		return new JamoBkTree(root, rank);
+	}
+
+	public static JamoBkTree empty() {
+		return new JamoBkTree(null, 0);
+	}
+
+	/**
+	 * 질의와 자모 편집 거리가 가장 가까운 성분 1개
+	 *
+	 * @param maxDistance 허용할 최대 자모 편집 거리
+	 */
+	public Optional<FuzzyMatch> closest(String query, int maxDistance) {
+		if (root == null || query == null || query.isBlank()) return Optional.empty();
+
+		String key = HangulJamo.decompose(query);
+		Entry best = null;
+		int bestDistance = Integer.MAX_VALUE;
+
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			Node node = stack.pop();
+			int distance = distance(key, node.key);
+
+			if (distance <= maxDistance) {
+				for (Entry entry : node.entries) {
+					if (distance < bestDistance || (distance == bestDistance && entry.rank < best.rank)) {
+						best = entry;
+						bestDistance = distance;
+					}
+				}
+			}
+
+			// 더 좋은 후보를 찾은 뒤에는 탐색 반경도 그만큼 좁힘
+			int radius = Math.min(maxDistance, bestDistance);
+			for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+				if (Math.abs(child.getKey() - distance) <= radius) stack.push(child.getValue());
+			}
+		}
+
+		return best == null ? Optional.empty() : Optional.of(new FuzzyMatch(best.ingredient, bestDistance));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 두 문자열의 Levenshtein 거리 (두 행만 사용하는 DP)
+	 */
+	public static int distance(String a, String b) {
+		int[] prev = new int[b.length() + 1];
+		int[] curr = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) prev[j] = j;
+
+		for (int i = 1; i <= a.length(); i++) {
+			curr[0] = i;
+			char ca = a.charAt(i - 1);
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = ca == b.charAt(j - 1) ? 0 : 1;
+				curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+			}
+			int[] tmp = prev;
+			prev = curr;
+			curr = tmp;
+		}
+		return prev[b.length()];
+	}
+
+	private static Node insert(Node root, String key, Entry entry) {
+		if (root == null) return new Node(key, entry);
+
+		Node node = root;
+		while (true) {
+			int distance = distance(key, node.key);
+			if (distance == 0) {
+				// 같은 키(국문/영문명이 같거나 동명 성분)는 한 노드에 모아서 보관
+				if (!node.entries.contains(entry)) node.entries.add(entry);
+				return root;
+			}
+
+			Node child = node.children.get(distance);
+			if (child == null) {
+				node.children.put(distance, new Node(key, entry));
+				return root;
+			}
+			node = child;
+		}
+	}
+
+	/**
+	 * @param ingredient 가장 가까운 성분
+	 * @param distance   자모 편집 거리 (0 이면 정확히 일치)
+	 */
+	public record FuzzyMatch(EncyclopediaSearchResponse ingredient, int distance) {
+	}
+
+	private record Entry(EncyclopediaSearchResponse ingredient, int rank) {
+	}
+
+	private static final class Node {
+		private final String key;
+		private final List<Entry> entries = new ArrayList<>(1);
+		private final Map<Integer, Node> children = new HashMap<>();
+
+		private Node(String key, Entry entry) {
+			this.key = key;
+			this.entries.add(entry);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.boindang.encyclopedia.application.search;
+
+import java.util.List;
+
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 성분 검색 단계별 결과
+ *
+ * @param tier          결과를 만든 단계
+ * @param suggestedName 오타 대응 검색으로 찾은 추천 성분명 (FUZZY 가 아니거나 입력과 같으면 null)
+ * @param results       응답 목록
+ */
+public record IngredientSearchResult(
+	SearchTier tier,
+	String suggestedName,
+	List<EncyclopediaSearchResponse> results
+) {
+
+	public static IngredientSearchResult of(SearchTier tier, List<EncyclopediaSearchResponse> results) {
+		return new IngredientSearchResult(results.isEmpty() ? SearchTier.NONE : tier, null, results);
+	}
+
+	/**
+	 * 오타 대응 결과 (가장 유사한 성분 1개, 입력과 이름이 다르면 추천 성분명으로 안내)
+	 */
+	public static IngredientSearchResult fuzzy(String query, EncyclopediaSearchResponse best) {
+		String suggestedName = !best.getName().equalsIgnoreCase(query) ? best.getName() : null;
+		return new IngredientSearchResult(SearchTier.FUZZY, suggestedName, List.of(best));
+	}
+
+	public static IngredientSearchResult none() {
+		return new IngredientSearchResult(SearchTier.NONE, null, List.of());
+	}
+}
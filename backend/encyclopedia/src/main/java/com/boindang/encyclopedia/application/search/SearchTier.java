@@ -0,0 +1,16 @@
+package com.boindang.encyclopedia.application.search;
+
+/**
+ * 검색 결과가 어느 단계에서 만들어졌는지 (응답 지연 지표의 tier 태그로도 사용)
+ */
+public enum SearchTier {
+	TRIE,     // 인메모리 트라이 (초성/음절/영문 prefix)
+	CHOSUNG,  // Redis 초성 목록 (트라이 준비 전 fallback)
+	PREFIX,   // ES match_phrase_prefix
+	FUZZY,    // ES 오타 대응 검색
+	NONE;     // 결과 없음
+
+	public String tag() {
+		return name().toLowerCase();
+	}
+}
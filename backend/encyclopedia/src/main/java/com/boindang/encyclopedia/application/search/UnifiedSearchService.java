@@ -0,0 +1,105 @@
+package com.boindang.encyclopedia.application.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.Fuzziness;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Service;
+
+import com.boindang.encyclopedia.common.exception.ElasticSearchException;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnifiedSearchService {
+
+	private static final String INDEX = "ingredients";
+	private static final String[] FIELDS = {"id", "name", "engName", "type", "riskLevel"};
+
+	private final RestHighLevelClient client;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * prefix 자동완성과 오타 대응(Fuzzy) 검색을 _msearch 한 번으로 요청하고 응답에서 결과 단계를 선택
+	 *
+	 * - 기존에는 prefix 검색이 비었을 때 Fuzzy 검색을 다시 요청해 오타 입력은 ES 왕복이 2번 발생했습니다.
+	 * - prefix 결과가 있으면 PREFIX(최대 10개), 없으면 가장 유사한 성분 1개를 FUZZY 로 반환합니다.
+	 *
+	 * @param query 사용자가 입력한 검색어
+	 */
+	public IngredientSearchResult search(String query) {
+		SearchSourceBuilder prefix = new SearchSourceBuilder()
+			.query(QueryBuilders.matchPhrasePrefixQuery("name", query)) // name 필드에서 query로 시작하는 단어 (edge_ngram 기반)
+			.fetchSource(FIELDS, null)
+			.size(10);
+
+		SearchSourceBuilder fuzzy = new SearchSourceBuilder()
+			.query(QueryBuilders.matchQuery("name", query)
+				.fuzziness(Fuzziness.TWO) // 최대 2글자 오타 허용
+				.prefixLength(0) // 처음 글자부터 오타 허용
+				.maxExpansions(50) // 최대 후보군 수
+				.fuzzyTranspositions(true)) // 철자 전환 허용 (ex. ab -> ba)
+			.fetchSource(FIELDS, null)
+			.size(1); // 가장 유사한 결과 1개만
+
+		MultiSearchRequest request = new MultiSearchRequest()
+			.add(new SearchRequest(INDEX).source(prefix))
+			.add(new SearchRequest(INDEX).source(fuzzy));
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		MultiSearchResponse response;
+		try {
+			response = client.msearch(request, RequestOptions.DEFAULT);
+		} catch (Exception e) {
+			log.error("❌ Elasticsearch 통합 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		} finally {
+			sample.stop(meterRegistry.timer("encyclopedia.search.es.msearch"));
+		}
+
+		// 1️⃣ prefix 자동완성 결과가 있으면 우선
+		List<EncyclopediaSearchResponse> prefixResults = hits(response.getResponses()[0], query);
+		if (!prefixResults.isEmpty()) {
+			return IngredientSearchResult.of(SearchTier.PREFIX, prefixResults);
+		}
+
+		// 2️⃣ 없으면 Fuzzy 결과 (오타 대응)
+		List<EncyclopediaSearchResponse> fuzzyResults = hits(response.getResponses()[1], query);
+		if (!fuzzyResults.isEmpty()) {
+			return IngredientSearchResult.fuzzy(query, fuzzyResults.get(0));
+		}
+
+		return IngredientSearchResult.none();
+	}
+
+	private List<EncyclopediaSearchResponse> hits(MultiSearchResponse.Item item, String query) {
+		if (item.isFailure()) {
+			log.error("❌ Elasticsearch 통합 검색 일부 실패 - query={}, message={}", query, item.getFailureMessage());
+			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		}
+
+		SearchResponse response = item.getResponse();
+		return Arrays.stream(response.getHits().getHits())
+			.map(hit -> {
+				Map<String, Object> source = hit.getSourceAsMap();
+				source.putIfAbsent("id", hit.getId());
+				return EncyclopediaSearchResponse.from2(source);
+			})
+			.toList();
+	}
+}
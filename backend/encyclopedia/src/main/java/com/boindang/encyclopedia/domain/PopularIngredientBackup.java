@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "popular_ingredient_backup")
+@Table(
+    name = "popular_ingredient_backup",
+    uniqueConstraints = @UniqueConstraint(name = "uk_popular_backup_date_ingredient", columnNames = {"backup_date", "ingredient_id"})
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
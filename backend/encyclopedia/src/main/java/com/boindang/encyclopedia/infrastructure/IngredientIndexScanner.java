@@ -0,0 +1,71 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ingredients 인덱스 전체를 scroll 로 훑어 필요한 필드만 가져오는 스캐너
+ *
+ * - 자동완성 인덱스처럼 "전체 성분"이 필요한 곳에서 사용하며, description 등 큰 필드는 가져오지 않습니다.
+ * - 반환되는 source map 에는 항상 "id" 가 포함됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngredientIndexScanner {
+
+	private static final String INDEX = "ingredients";
+	private static final int PAGE_SIZE = 1000;
+	private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+	private final RestHighLevelClient client;
+
+	public List<Map<String, Object>> scanAll(String... fields) throws IOException {
+		SearchSourceBuilder builder = new SearchSourceBuilder()
+			.query(QueryBuilders.matchAllQuery())
+			.fetchSource(fields, null)
+			.size(PAGE_SIZE);
+
+		SearchRequest request = new SearchRequest(INDEX).source(builder).scroll(SCROLL_KEEP_ALIVE);
+		SearchResponse response = client.search(request, RequestOptions.DEFAULT);
+
+		List<Map<String, Object>> sources = new ArrayList<>();
+		String scrollId = response.getScrollId();
+		try {
+			SearchHit[] hits = response.getHits().getHits();
+			while (hits.length > 0) {
+				for (SearchHit hit : hits) {
+					Map<String, Object> source = hit.getSourceAsMap();
+					source.putIfAbsent("id", hit.getId());
+					sources.add(source);
+				}
+
+				response = client.scroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE), RequestOptions.DEFAULT);
+				scrollId = response.getScrollId();
+				hits = response.getHits().getHits();
+			}
+		} finally {
+			if (scrollId != null) {
+				ClearScrollRequest clear = new ClearScrollRequest();
+				clear.addScrollId(scrollId);
+				client.clearScroll(clear, RequestOptions.DEFAULT);
+			}
+		}
+		return sources;
+	}
+}
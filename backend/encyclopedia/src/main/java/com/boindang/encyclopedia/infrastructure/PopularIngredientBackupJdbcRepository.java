@@ -0,0 +1,38 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.boindang.encyclopedia.domain.PopularIngredientBackup;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY 전략에서는 JPA saveAll 이 batch insert 로 묶이지 않기 때문에 JDBC batch 로 직접 저장한다.
+ * (MySQL 은 rewriteBatchedStatements=true 설정 시 multi-row insert 로 재작성됨)
+ *
+ * - (backup_date, ingredient_id) 유니크 키 기준 upsert 이므로 백업 도중 실패 후 재시도해도 행이 중복되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopularIngredientBackupJdbcRepository {
+
+	private static final String UPSERT_SQL =
+		"INSERT INTO popular_ingredient_backup (ingredient_id, ingredient_name, score, backup_date) VALUES (?, ?, ?, ?) "
+			+ "ON DUPLICATE KEY UPDATE ingredient_name = VALUES(ingredient_name), score = VALUES(score)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchUpsert(List<PopularIngredientBackup> backups, LocalDate backupDate) {
+		jdbcTemplate.batchUpdate(UPSERT_SQL, backups, backups.size(), (ps, backup) -> {
+			ps.setString(1, backup.getIngredientId());
+			ps.setString(2, backup.getIngredientName());
+			ps.setLong(3, backup.getScore());
+			ps.setDate(4, Date.valueOf(backupDate));
+		});
+	}
+}
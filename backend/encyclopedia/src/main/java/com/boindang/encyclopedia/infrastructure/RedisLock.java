@@ -0,0 +1,49 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러의 인스턴스 간 단일 실행용 Redis 락 (SET NX PX + token)
+ *
+ * - 해제는 획득 시 저장한 token 이 일치할 때만 수행합니다.
+ *   (작업이 임대 시간을 넘겨 다른 인스턴스가 잡은 락을 지우지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = createScript("scripts/lock-release.lua");
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * @return 획득한 락의 token (이미 다른 인스턴스가 보유 중이면 empty)
+	 */
+	public Optional<String> tryAcquire(String key, Duration lease) {
+		String token = UUID.randomUUID().toString();
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, lease);
+		return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+	}
+
+	public void release(String key, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+	}
+
+	private static RedisScript<Long> createScript(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
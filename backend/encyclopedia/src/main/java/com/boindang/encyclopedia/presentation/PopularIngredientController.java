@@ -1,6 +1,7 @@
 package com.boindang.encyclopedia.presentation;
 
 import com.boindang.encyclopedia.application.PopularIngredientService;
+import com.boindang.encyclopedia.application.TrendingWindow;
 import com.boindang.encyclopedia.common.response.ApiResponses;
 import com.boindang.encyclopedia.presentation.api.PopularIngredientApi;
 import com.boindang.encyclopedia.presentation.dto.response.PopularIngredientResponse;
@@ -22,8 +23,11 @@ public class PopularIngredientController implements PopularIngredientApi {
 
     @Override
     @GetMapping("/popular")
-    public ApiResponses<List<PopularIngredientResponse>> getPopularIngredients(@RequestParam(defaultValue = "3") int limit) {
-        return ApiResponses.success(popularIngredientService.getTopIngredients(limit));
+    public ApiResponses<List<PopularIngredientResponse>> getPopularIngredients(
+        @RequestParam(defaultValue = "3") int limit,
+        @RequestParam(defaultValue = "24h") String window
+    ) {
+        return ApiResponses.success(popularIngredientService.getTopIngredients(limit, TrendingWindow.from(window)));
     }
 }
 
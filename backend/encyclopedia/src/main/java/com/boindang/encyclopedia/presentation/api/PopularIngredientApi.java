@@ -16,7 +16,7 @@ import java.util.List;
 @Tag(name = "백과사전 인기검색어", description = "실시간 인기 검색어 조회 API입니다.")
 public interface PopularIngredientApi {
 
-    @Operation(summary = "실시간 인기 성분 조회", description = "Redis에 저장된 인기 성분을 검색 수 순으로 조회합니다.")
+    @Operation(summary = "실시간 인기 성분 조회", description = "최근 1시간/24시간/7일 구간의 검색 수를 최근 검색일수록 높은 가중치로 합산해 인기 성분을 조회합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "인기검색어 조회 성공",
             content = @Content(
@@ -45,6 +45,8 @@ public interface PopularIngredientApi {
     @GetMapping("/popular")
     ApiResponses<List<PopularIngredientResponse>> getPopularIngredients(
             @Parameter(description = "조회할 인기 성분 개수", example = "3")
-            @RequestParam(defaultValue = "3") int limit
+            @RequestParam(defaultValue = "3") int limit,
+            @Parameter(description = "집계 구간 (1h, 24h, 7d)", example = "24h")
+            @RequestParam(defaultValue = "24h") String window
     );
 }
@@ -21,7 +21,7 @@ public class EncyclopediaSearchResponse {
                 .name(entity.getName())
                 .engName(entity.getEngName())
                 .type(entity.getType())
-                .riskLevel(entity.getRiskLevel().getLabel()) // Enum 처리 주의
+                .riskLevel(entity.getRiskLevel() != null ? entity.getRiskLevel().getLabel() : "정보 없음") // Enum 처리 주의
                 .build();
     }
 
@@ -0,0 +1,66 @@
+package com.boindang.encyclopedia.scheduler;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.AutocompleteCacheService;
+import com.boindang.encyclopedia.application.autocomplete.ChosungIndexGenerator;
+import com.boindang.encyclopedia.application.autocomplete.IngredientIndexChangedEvent;
+import com.boindang.encyclopedia.infrastructure.RedisLock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class ChosungIndexScheduler {
+
+	private static final String GENERATE_LOCK_KEY = "autocomplete:generate-lock"; // 한 인스턴스만 생성
+	private static final Duration GENERATE_LOCK_LEASE = Duration.ofMinutes(5);
+
+	private final ChosungIndexGenerator chosungIndexGenerator;
+	private final AutocompleteCacheService autocompleteCacheService;
+	private final RedisLock redisLock;
+
+	// 기동 시 한 번 (기존 RedisAutocompleteSeeder 대체)
+	@EventListener(ApplicationReadyEvent.class)
+	public void generateOnStartup() {
+		generate();
+	}
+
+	// 재색인 등으로 성분 내용이 바뀌면 주기를 기다리지 않고 바로 재생성
+	// (트라이 갱신 스케줄 스레드를 붙잡지 않도록 별도 스레드에서 실행)
+	@Async
+	@EventListener(IngredientIndexChangedEvent.class)
+	public void generateOnIndexChange() {
+		generate();
+	}
+
+	// 신규 성분 반영 및 인기 점수 기반 재정렬
+	@Scheduled(
+		fixedDelayString = "${encyclopedia.autocomplete.chosung.refresh-interval:3600000}",
+		initialDelayString = "${encyclopedia.autocomplete.chosung.refresh-interval:3600000}"
+	)
+	public void generate() {
+		Optional<String> token = redisLock.tryAcquire(GENERATE_LOCK_KEY, GENERATE_LOCK_LEASE);
+		if (token.isEmpty()) return;
+
+		try {
+			chosungIndexGenerator.generate();
+			autocompleteCacheService.invalidateAll(); // 이전 목록/성분 정보로 만든 자동완성 캐시 폐기
+		} catch (Exception e) {
+			log.error("❌ 초성 자동완성 인덱스 생성 실패 (기존 목록 유지): {}", e.getMessage(), e);
+		} finally {
+			redisLock.release(GENERATE_LOCK_KEY, token.get());
+		}
+	}
+}
@@ -1,28 +1,41 @@
 package com.boindang.encyclopedia.scheduler;
 
 import com.boindang.encyclopedia.application.PopularIngredientBackupService;
+import com.boindang.encyclopedia.application.TrendingBuckets;
+import com.boindang.encyclopedia.infrastructure.RedisLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class PopularIngredientBackupScheduler {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final String BACKUP_LOCK_KEY = "popular:backup-lock"; // 한 인스턴스만 백업
+
+    private final RedisLock redisLock;
     private final PopularIngredientBackupService backupService;
-    private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
 
-    // 매일 자정 실행 (cron: 초 분 시 일 월 요일)
-    @Scheduled(cron = "0 0 0 * * *")
+    // 매일 자정 실행 (cron: 초 분 시 일 월 요일), 전날 집계분을 백업
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void backupPopularIngredients() {
-        log.info("🔁 자정 백업 작업 시작");
-        backupService.backupAndClear();
+        Optional<String> token = redisLock.tryAcquire(BACKUP_LOCK_KEY, Duration.ofMinutes(10));
+        if (token.isEmpty()) return;
 
-        redisTemplate.delete(POPULAR_INGREDIENT_KEY);
+        log.info("🔁 자정 백업 작업 시작");
+        try {
+            backupService.backupAndClear(LocalDate.now(TrendingBuckets.ZONE).minusDays(1));
+        } catch (Exception e) {
+            log.error("❌ 인기 성분 백업 실패 (임시 키는 다음 실행 시 복구): {}", e.getMessage(), e);
+        } finally {
+            redisLock.release(BACKUP_LOCK_KEY, token.get());
+        }
     }
 }
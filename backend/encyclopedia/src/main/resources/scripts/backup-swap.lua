@@ -0,0 +1,20 @@
+-- 일별 인기 검색 백업 시작 (날짜별 1회만 라이브 키를 임시 키로 교체)
+-- KEYS[1] : 라이브 키 (popular:ingredients)
+-- KEYS[2] : 날짜별 임시 키 (popular:ingredients:backup:{yyyyMMdd})
+-- KEYS[3] : 날짜별 완료 표시 (popular:backup-done:{yyyyMMdd})
+-- ARGV[1] : 완료 표시 보관 시간 (ms)
+--
+-- return 0 = 이미 다른 실행이 처리한 날짜, 1 = 교체함, 2 = 백업할 데이터 없음
+
+if redis.call('EXISTS', KEYS[3]) == 1 then
+	return 0
+end
+
+redis.call('SET', KEYS[3], '1', 'PX', ARGV[1])
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return 2
+end
+
+redis.call('RENAME', KEYS[1], KEYS[2])
+return 1
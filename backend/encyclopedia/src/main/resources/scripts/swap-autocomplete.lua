@@ -0,0 +1,20 @@
+-- 초성 자동완성 인덱스 교체 (staging → live 를 한 번에 RENAME)
+-- KEYS[1..n]      : 새로 만든 staging 키 (autocomplete:staging::{초성})
+-- KEYS[n+1..2n]   : 대응하는 live 키 (autocomplete::{초성})
+-- KEYS[2n+1..]    : 새 인덱스에 없는 기존 live 키 (삭제 대상)
+-- ARGV[1]         : n
+--
+-- return 교체한 키 개수
+
+local n = tonumber(ARGV[1])
+
+for i = 1, n do
+	redis.call('RENAME', KEYS[i], KEYS[n + i])
+	redis.call('PERSIST', KEYS[n + i]) -- staging 의 안전용 TTL 제거
+end
+
+for i = 2 * n + 1, #KEYS do
+	redis.call('DEL', KEYS[i])
+end
+
+return n
@@ -0,0 +1,21 @@
+-- 구간 버킷 가중 합산 후 상위 조회 (합산 → 조회 → 삭제를 한 번에 수행해 다른 호출과 결과 키를 공유하지 않음)
+-- KEYS[1]    : 합산 결과 임시 키 (popular:window:{구간})
+-- KEYS[2..]  : 시간 버킷 키 (최신 버킷부터)
+-- ARGV[1]    : 조회할 마지막 순위 (-1 이면 전체)
+-- ARGV[2..]  : 버킷별 가중치 (KEYS[2..] 와 같은 순서)
+--
+-- return 점수 내림차순 [member, score, member, score, ...]
+
+local args = {KEYS[1], #KEYS - 1}
+for i = 2, #KEYS do
+	args[#args + 1] = KEYS[i]
+end
+args[#args + 1] = 'WEIGHTS'
+for i = 2, #ARGV do
+	args[#args + 1] = ARGV[i]
+end
+
+redis.call('ZUNIONSTORE', unpack(args))
+local top = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]), 'WITHSCORES')
+redis.call('DEL', KEYS[1])
+return top
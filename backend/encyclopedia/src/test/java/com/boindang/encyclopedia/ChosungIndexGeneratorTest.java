@@ -0,0 +1,48 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.autocomplete.ChosungIndexGenerator;
+
+@DisplayName("🔤 초성 자동완성 인덱스 생성 테스트")
+class ChosungIndexGeneratorTest {
+
+	private final ChosungIndexGenerator generator = new ChosungIndexGenerator(null, null, null, 3);
+
+	private final Map<String, String> names = Map.of(
+		"maltitol", "말티톨",
+		"maltodextrin", "말토덱스트린",
+		"magnesium", "마그네슘",
+		"wheat_flour", "밀가루",
+		"whey", "유청",
+		"vitamin_b12", "비타민 B12"
+	);
+
+	@Test
+	@DisplayName("✅ 성분명에서 초성 prefix 목록을 만든다 (하드코딩 없이 ㄴ → 유청 같은 오류 없음)")
+	void buildFromNames() {
+		Map<String, List<String>> index = generator.buildIndex(names, Map.of());
+
+		assertEquals(List.of("유청"), index.get("ㅇ"));
+		assertEquals(List.of("유청"), index.get("ㅇㅊ"));
+		assertNull(index.get("ㄴ"));
+		assertEquals(List.of("말티톨", "말토덱스트린"), index.get("ㅁㅌ"));
+		assertEquals(List.of("비타민 B12"), index.get("ㅂㅌㅁ"));
+		assertTrue(index.keySet().stream().noneMatch(key -> key.contains("b")));
+	}
+
+	@Test
+	@DisplayName("✅ 인기 검색 점수가 높은 성분이 먼저, 나머지는 짧은 이름순으로 최대 N개")
+	void rankByPopularity() {
+		Map<String, List<String>> index = generator.buildIndex(names, Map.of("maltodextrin", 5.0, "magnesium", 1.0));
+
+		assertEquals(List.of("말토덱스트린", "마그네슘", "말티톨"), index.get("ㅁ"));
+		assertEquals(List.of("말토덱스트린", "말티톨"), index.get("ㅁㅌ"));
+	}
+}
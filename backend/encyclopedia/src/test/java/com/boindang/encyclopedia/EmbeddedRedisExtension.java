@@ -0,0 +1,72 @@
+package com.boindang.encyclopedia;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 테스트 클래스마다 빈 포트에 embedded Redis 를 띄우고, 각 테스트 전에 비우는 JUnit 확장
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+ * </pre>
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, BeforeEachCallback, AfterAllCallback {
+
+	private RedisServer redisServer;
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+
+	public StringRedisTemplate template() {
+		return redisTemplate;
+	}
+
+	@Override
+	public void beforeAll(ExtensionContext context) throws Exception {
+		int port = freePort();
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Override
+	public void afterAll(ExtensionContext context) throws Exception {
+		if (connectionFactory != null) connectionFactory.destroy();
+		if (redisServer != null) redisServer.stop();
+	}
+
+	private static int freePort() {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			socket.setReuseAddress(true);
+			return socket.getLocalPort();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.FuzzySearchService;
+import com.boindang.encyclopedia.application.autocomplete.JamoBkTree;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 자모 단위 BK-tree 와 음절 단위 편집 거리(ES fuzziness=TWO 와 같은 기준)의 오타 교정 정확도 비교
+ */
+@DisplayName("🎯 자모/음절 단위 오타 교정 recall 비교 테스트")
+class FuzzyRecallComparisonTest {
+
+	static final List<String> NAMES = List.of(
+		"가공유지", "고과당콘시럽", "고지방분말", "구아검", "글리세린", "대두분", "덱스트린", "락툴로오스", "레시틴",
+		"마그네슘", "말티톨", "말토덱스트린", "밀가루", "벤조산나트륨", "산도조절제", "설탕", "쇼트닝", "수크랄로스",
+		"소르빈산칼륨", "스테비아", "아스파탐", "아세설팜칼륨", "아연", "알룰로스", "올리고당", "유당", "유청", "유화제",
+		"이눌린", "이소말트", "인산염", "액상과당", "에리스리톨", "자일리톨", "정제소금", "철", "초산", "카라기난",
+		"카제인", "칼륨", "칼슘", "타가토스", "팜유", "프락토올리고당", "향료", "효소제"
+	);
+
+	// { 오타 입력, 의도한 성분 }
+	static final String[][] TYPOS = {
+		{"말티똘", "말티톨"}, {"말티툴", "말티톨"}, {"아스파담", "아스파탐"}, {"에리스리돌", "에리스리톨"},
+		{"자일리톨ㄹ", "자일리톨"}, {"수크랄로즈", "수크랄로스"}, {"유탕", "유당"}, {"스테비야", "스테비아"},
+		{"카라기넌", "카라기난"}, {"알루로스", "알룰로스"}, {"덱스트링", "덱스트린"}, {"글리세린ㄴ", "글리세린"},
+		{"이눌릔", "이눌린"}, {"락툴로스", "락툴로오스"}, {"소르비산칼륨", "소르빈산칼륨"}, {"칼숨", "칼슘"},
+		{"타가토즈", "타가토스"}, {"올리고땅", "올리고당"}, {"아세셜팜칼륨", "아세설팜칼륨"}, {"레시딘", "레시틴"}
+	};
+
+	static List<EncyclopediaSearchResponse> ranked;
+	static JamoBkTree bkTree;
+
+	@BeforeAll
+	static void setUp() {
+		ranked = ranked(NAMES);
+		bkTree = JamoBkTree.build(ranked);
+	}
+
+	@Test
+	@DisplayName("✅ 자모 단위 교정이 음절 단위보다 정확하고 90% 이상 맞춘다")
+	void jamoRecall_isHigherThanSyllable() {
+		int jamoHits = 0;
+		int syllableHits = 0;
+
+		for (String[] typo : TYPOS) {
+			String jamo = bkTree.closest(typo[0], allowedDistance(typo[0]))
+				.map(match -> match.ingredient().getName())
+				.orElse(null);
+			String syllable = syllableClosest(typo[0]).orElse(null);
+
+			if (typo[1].equals(jamo)) jamoHits++;
+			if (typo[1].equals(syllable)) syllableHits++;
+			System.out.println("🔍 " + typo[0] + " → 자모: " + jamo + ", 음절: " + syllable + " (정답: " + typo[1] + ")");
+		}
+
+		double jamoRecall = jamoHits / (double) TYPOS.length;
+		double syllableRecall = syllableHits / (double) TYPOS.length;
+		System.out.println("🎯 top-1 recall - 자모: " + jamoRecall + ", 음절: " + syllableRecall);
+
+		assertTrue(jamoRecall >= syllableRecall);
+		assertTrue(jamoRecall >= 0.9);
+	}
+
+	@Test
+	@DisplayName("✅ 음절 하나가 같아도 자모가 더 가까운 성분을 고른다 (유탕 → 유당, 설탕 아님)")
+	void jamoDistance_breaksSyllableTies() {
+		// 음절 기준으로는 유당, 설탕 모두 거리 1
+		assertEquals(1, JamoBkTree.distance("유탕", "유당"));
+		assertEquals(1, JamoBkTree.distance("유탕", "설탕"));
+		assertEquals("유당", bkTree.closest("유탕", 1).orElseThrow().ingredient().getName());
+		assertEquals(1, bkTree.closest("유탕", 1).orElseThrow().distance());
+	}
+
+	@Test
+	@DisplayName("✅ 허용 거리를 넘는 입력은 추천하지 않는다")
+	void tooFar_returnsEmpty() {
+		assertTrue(bkTree.closest("초콜릿", 2).isEmpty());
+		assertTrue(bkTree.closest("", 2).isEmpty());
+	}
+
+	// 운영 검색(FuzzySearchService)과 같은 허용 거리 규칙
+	static int allowedDistance(String query) {
+		return FuzzySearchService.allowedDistance(query, FuzzySearchService.DEFAULT_MAX_DISTANCE);
+	}
+
+	// ES fuzziness=TWO 처럼 음절(문자) 단위 편집 거리 2 이내에서 가장 가까운 성분
+	static Optional<String> syllableClosest(String query) {
+		String best = null;
+		int bestDistance = Integer.MAX_VALUE;
+		for (EncyclopediaSearchResponse ingredient : ranked) {
+			int distance = JamoBkTree.distance(query, ingredient.getName());
+			if (distance <= 2 && distance < bestDistance) {
+				best = ingredient.getName();
+				bestDistance = distance;
+			}
+		}
+		return Optional.ofNullable(best);
+	}
+
+	static List<EncyclopediaSearchResponse> ranked(List<String> names) {
+		return names.stream()
+			.map(name -> EncyclopediaSearchResponse.builder().id(name).name(name).build())
+			.sorted(Comparator.comparingInt((EncyclopediaSearchResponse r) -> r.getName().length())
+				.thenComparing(EncyclopediaSearchResponse::getName))
+			.toList();
+	}
+}
@@ -0,0 +1,104 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrie;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🌲 인메모리 자동완성 트라이 테스트")
+class IngredientTrieBenchmark {
+
+	private static IngredientTrie trie;
+
+	@BeforeAll
+	static void setUp() {
+		List<EncyclopediaSearchResponse> ingredients = new ArrayList<>(List.of(
+			ingredient("maltitol", "말티톨", "Maltitol"),
+			ingredient("maltodextrin", "말토덱스트린", "Maltodextrin"),
+			ingredient("magnesium", "마그네슘", "Magnesium"),
+			ingredient("wheat_flour", "밀가루", "Wheat flour"),
+			ingredient("vitamin_b12", "비타민 B12", "Vitamin B12"),
+			ingredient("xylitol", "자일리톨", "Xylitol"),
+			ingredient("whey", "유청", "Whey")
+		));
+
+		// 실제 인덱스보다 넉넉한 규모로 더미 성분 추가
+		for (int i = 0; i < 5_000; i++) {
+			ingredients.add(ingredient("dummy_" + i, "테스트성분" + i, "Dummy " + i));
+		}
+		ingredients.sort(Comparator.comparingInt((EncyclopediaSearchResponse r) -> r.getName().length())
+			.thenComparing(EncyclopediaSearchResponse::getName));
+
+		trie = IngredientTrie.build(ingredients, 10);
+	}
+
+	@Test
+	@DisplayName("✅ 초성만 입력해도 성분을 찾는다 (ㅁㅌ → 말티톨)")
+	void chosungPrefix() {
+		assertEquals("말티톨", trie.search("ㅁㅌ").get(0).getName());
+		assertTrue(names("ㅁ").containsAll(List.of("말티톨", "말토덱스트린", "마그네슘", "밀가루")));
+		assertFalse(names("ㄴ").contains("유청"));
+		assertEquals(List.of("유청"), names("ㅇㅊ"));
+	}
+
+	@Test
+	@DisplayName("✅ 음절/혼합 입력 prefix 매칭 (말, 말ㅌ, 말토)")
+	void syllablePrefix() {
+		assertEquals(List.of("말티톨", "말토덱스트린"), names("말"));
+		assertEquals(List.of("말티톨", "말토덱스트린"), names("말ㅌ"));
+		assertEquals(List.of("말토덱스트린"), names("말토"));
+		assertEquals(List.of("말티톨", "말토덱스트린"), names("맕")); // 타이핑 중간 상태 (말 + ㅌ → 겹받침 ㄾ)
+		assertTrue(names("밀가룻").isEmpty());
+	}
+
+	@Test
+	@DisplayName("✅ 영문명/공백 포함 이름 prefix 매칭")
+	void englishPrefix() {
+		assertEquals(List.of("말티톨"), names("malti"));
+		assertEquals(List.of("비타민 B12"), names("VitaminB"));
+		assertEquals(List.of("비타민 B12"), names("비타민b"));
+	}
+
+	@Test
+	@DisplayName("⏱️ 트라이 자동완성 평균 조회 시간 측정")
+	void lookup_benchmark() {
+		String[] queries = {"ㅁ", "ㅁㅌ", "말", "말ㅌ", "말티", "malt", "테스트성분12", "ㅌㅅㅌ"};
+
+		// JIT 워밍업
+		for (int i = 0; i < 10_000; i++) {
+			trie.search(queries[i % queries.length]);
+		}
+
+		int iterations = 100_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			trie.search(queries[i % queries.length]);
+		}
+		double avgMs = (System.nanoTime() - start) / (double) iterations / 1_000_000;
+
+		System.out.println("⏱️ 트라이 자동완성 평균 시간: " + avgMs + "ms");
+		assertTrue(avgMs < 1.0);
+	}
+
+	private static List<String> names(String query) {
+		return trie.search(query).stream().map(EncyclopediaSearchResponse::getName).toList();
+	}
+
+	private static EncyclopediaSearchResponse ingredient(String id, String name, String engName) {
+		return EncyclopediaSearchResponse.builder()
+			.id(id)
+			.name(name)
+			.engName(engName)
+			.type("감미료")
+			.riskLevel("주의")
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.autocomplete.JamoBkTree;
+
+/**
+ * 인메모리 자모 BK-tree 오타 교정 속도 측정 (ElasticsearchFuzzySearchBenchmark 와 같은 입력 "말티똘")
+ */
+@DisplayName("⏱️ 자모 BK-tree 오타 검색 속도 측정 테스트")
+class JamoFuzzyMatcherBenchmark {
+
+	private static JamoBkTree bkTree;
+
+	@BeforeAll
+	static void setUp() {
+		List<String> names = new ArrayList<>(FuzzyRecallComparisonTest.NAMES);
+		// 실제 인덱스보다 넉넉한 규모로 더미 성분 추가
+		for (int i = 0; i < 5_000; i++) {
+			names.add("테스트성분" + i);
+		}
+		bkTree = JamoBkTree.build(FuzzyRecallComparisonTest.ranked(names));
+	}
+
+	@Test
+	void fuzzySearch_benchmark() {
+		String typo = "말티똘";
+
+		// JIT 워밍업
+		for (int i = 0; i < 10_000; i++) {
+			bkTree.closest(typo, 2);
+		}
+
+		int iterations = 100_000;
+		long totalTime = 0;
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			JamoBkTree.FuzzyMatch match = bkTree.closest(typo, 2).orElseThrow();
+			totalTime += System.nanoTime() - start;
+
+			assertEquals("말티톨", match.ingredient().getName());
+		}
+
+		double avgMicros = totalTime / (double) iterations / 1_000;
+		System.out.println("⏱️ 자모 BK-tree 오타 검색 평균 시간: " + avgMicros + "µs");
+		assertTrue(avgMicros < 1_000);
+	}
+
+	@Test
+	void fuzzySearch_allTypos_benchmark() {
+		String[][] typos = FuzzyRecallComparisonTest.TYPOS;
+
+		int iterations = 50_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			String typo = typos[i % typos.length][0];
+			bkTree.closest(typo, FuzzyRecallComparisonTest.allowedDistance(typo));
+		}
+		double avgMicros = (System.nanoTime() - start) / (double) iterations / 1_000;
+
+		System.out.println("⏱️ 자모 BK-tree 오타 검색 평균 시간 (오타 " + typos.length + "종): " + avgMicros + "µs");
+	}
+}
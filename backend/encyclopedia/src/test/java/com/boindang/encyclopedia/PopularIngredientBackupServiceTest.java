@@ -0,0 +1,103 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.boindang.encyclopedia.application.PopularIngredientBackupService;
+import com.boindang.encyclopedia.application.autocomplete.IngredientTrieIndex;
+import com.boindang.encyclopedia.domain.PopularIngredientBackup;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+import com.boindang.encyclopedia.infrastructure.PopularIngredientBackupJdbcRepository;
+
+@DisplayName("💾 인기 성분 자정 백업 테스트 (임시 키 교체 → 나눠 저장, 남은 임시 키 복구)")
+class PopularIngredientBackupServiceTest {
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static final String LIVE_KEY = "popular:ingredients";
+	private static final LocalDate YESTERDAY = LocalDate.of(2025, 5, 13);
+
+	private final PopularIngredientBackupJdbcRepository jdbcRepository = mock(PopularIngredientBackupJdbcRepository.class);
+	private final IngredientTrieIndex trieIndex = mock(IngredientTrieIndex.class);
+	private final List<PopularIngredientBackup> saved = new ArrayList<>();
+	private final List<Integer> batchSizes = new ArrayList<>();
+	private PopularIngredientBackupService backupService;
+
+	@BeforeEach
+	void setUp() {
+		doAnswer(invocation -> {
+			List<PopularIngredientBackup> batch = invocation.getArgument(0);
+			batchSizes.add(batch.size());
+			saved.addAll(batch);
+			return null;
+		}).when(jdbcRepository).batchUpsert(anyList(), any());
+		when(trieIndex.findNameById(anyString())).thenAnswer(invocation -> Optional.of("성분-" + invocation.getArgument(0)));
+
+		backupService = new PopularIngredientBackupService(
+			redis.template(), jdbcRepository, mock(EncyclopediaRepository.class), trieIndex);
+	}
+
+	@Test
+	void swapThenDrain_savesAllInChunks_andClearsTempKey() {
+		for (int i = 0; i < 1_200; i++) {
+			redis.template().opsForZSet().incrementScore(LIVE_KEY, "id-" + i, i + 1);
+		}
+
+		backupService.backupAndClear(YESTERDAY);
+
+		assertEquals(1_200, saved.size());
+		assertTrue(batchSizes.size() >= 3 && batchSizes.stream().allMatch(size -> size <= 500), "500건 단위 batch");
+		assertTrue(saved.stream().allMatch(backup -> YESTERDAY.equals(backup.getBackupDate())));
+		assertEquals(1_200L, scoreOf("id-1199"));
+		assertEquals("성분-id-0", saved.stream().filter(b -> b.getIngredientId().equals("id-0")).findFirst().orElseThrow().getIngredientName());
+		assertFalse(redis.template().hasKey(LIVE_KEY));
+		assertFalse(redis.template().hasKey("popular:ingredients:backup:20250513"), "저장 후 임시 키 삭제");
+	}
+
+	@Test
+	void sameDate_isBackedUpOnlyOnce_evenIfAnotherInstanceRunsLater() {
+		redis.template().opsForZSet().incrementScore(LIVE_KEY, "sugar", 100);
+		backupService.backupAndClear(YESTERDAY);
+
+		// 다른 인스턴스의 자정 cron 이 조금 늦게 같은 날짜로 실행 (그 사이 오늘 검색 횟수가 쌓임)
+		redis.template().opsForZSet().incrementScore(LIVE_KEY, "sugar", 3);
+		backupService.backupAndClear(YESTERDAY);
+
+		assertEquals(1, saved.size(), "전날 집계를 오늘 몇 초치 검색 횟수로 덮어쓰지 않음");
+		assertEquals(100L, scoreOf("sugar"));
+		assertEquals(3.0, redis.template().opsForZSet().score(LIVE_KEY, "sugar"), "오늘 검색 횟수는 라이브 키에 유지");
+	}
+
+	@Test
+	void leftoverTempKey_isRecoveredWithItsOwnDate() {
+		// 이전 실행이 RENAME 후 저장 도중 실패해 남은 임시 키
+		redis.template().opsForZSet().incrementScore("popular:ingredients:backup:20250512", "salt", 7);
+
+		backupService.backupAndClear(YESTERDAY);
+
+		assertEquals(1, saved.size());
+		assertEquals(LocalDate.of(2025, 5, 12), saved.get(0).getBackupDate());
+		assertEquals(7L, saved.get(0).getScore());
+		assertFalse(redis.template().hasKey("popular:ingredients:backup:20250512"));
+	}
+
+	private long scoreOf(String ingredientId) {
+		Map<String, Long> scores = new HashMap<>();
+		saved.forEach(backup -> scores.put(backup.getIngredientId(), backup.getScore()));
+		return scores.get(ingredientId);
+	}
+}
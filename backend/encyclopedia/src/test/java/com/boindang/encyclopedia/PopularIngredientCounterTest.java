@@ -0,0 +1,105 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.boindang.encyclopedia.application.PopularIngredientCounter;
+
+@DisplayName("🧮 인기 검색 횟수 write-behind 버퍼 테스트 (embedded Redis)")
+class PopularIngredientCounterTest {
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	private static final String DAILY_KEY = "popular:ingredients";
+
+	@Test
+	void failedPipeline_isRebuffered_andNextFlushWritesCombinedDelta() {
+		StringRedisTemplate template = spy(redis.template());
+		doThrow(new RedisConnectionFailureException("Redis 일시 장애"))
+			.doCallRealMethod()
+			.when(template).executePipelined(any(RedisCallback.class));
+		PopularIngredientCounter counter = new PopularIngredientCounter(template);
+
+		increment(counter, "sugar", 3);
+		counter.flush(); // 실패 → 버퍼로 되돌림
+		assertNull(redis.template().opsForZSet().score(DAILY_KEY, "sugar"));
+
+		increment(counter, "sugar", 2);
+		counter.flush();
+
+		assertEquals(5.0, redis.template().opsForZSet().score(DAILY_KEY, "sugar"), "실패분 + 새 누적분을 한 번에 반영");
+		assertEquals(5.0, bucketTotal("sugar"), "시간 버킷에도 같은 증가분");
+		assertTrue(redis.template().getExpire(DAILY_KEY) > 0);
+
+		counter.flush(); // 남은 누적분 없음
+		assertEquals(5.0, redis.template().opsForZSet().score(DAILY_KEY, "sugar"));
+	}
+
+	@Test
+	void concurrentIncrements_duringFlush_areNotLost() throws Exception {
+		PopularIngredientCounter counter = new PopularIngredientCounter(redis.template());
+		int threads = 8;
+		int perThread = 2_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.submit(() -> {
+				try {
+					increment(counter, "sugar", perThread);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		while (!done.await(1, TimeUnit.MILLISECONDS)) {
+			counter.flush(); // drain(sumThenReset) 과 increment 가 겹쳐도 유실 없음
+		}
+		executor.shutdown();
+		counter.flush();
+
+		assertEquals((double) (threads * perThread), redis.template().opsForZSet().score(DAILY_KEY, "sugar"));
+	}
+
+	@Test
+	void pendingCounts_areFlushedOnShutdown() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.registerBean(RedisTemplate.class, () -> redis.template());
+			context.registerBean(PopularIngredientCounter.class);
+			context.refresh();
+
+			increment(context.getBean(PopularIngredientCounter.class), "salt", 4);
+		} // close → @PreDestroy
+
+		assertEquals(4.0, redis.template().opsForZSet().score(DAILY_KEY, "salt"));
+	}
+
+	private void increment(PopularIngredientCounter counter, String ingredientId, int times) {
+		for (int i = 0; i < times; i++) counter.increment(ingredientId);
+	}
+
+	// 실행 중 정각이 지나도 되도록 모든 시간 버킷 합산
+	private double bucketTotal(String ingredientId) {
+		return redis.template().keys("popular:ingredients:h:*").stream()
+			.map(key -> redis.template().opsForZSet().score(key, ingredientId))
+			.filter(score -> score != null)
+			.mapToDouble(Double::doubleValue)
+			.sum();
+	}
+}
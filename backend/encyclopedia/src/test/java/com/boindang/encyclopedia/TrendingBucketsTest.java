@@ -0,0 +1,70 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.boindang.encyclopedia.application.TrendingBuckets;
+import com.boindang.encyclopedia.application.TrendingWindow;
+
+@DisplayName("📈 시간 버킷 가중 합산 테스트 (embedded Redis)")
+class TrendingBucketsTest {
+
+	@RegisterExtension
+	static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+	// 09:30 → 가장 오래된 버킷은 절반만 구간에 걸침
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 13, 9, 30);
+
+	private final TrendingBuckets buckets = new TrendingBuckets(redis.template(),
+		Clock.fixed(NOW.atZone(TrendingBuckets.ZONE).toInstant(), TrendingBuckets.ZONE));
+
+	@Test
+	void hourWindow_addsHalfOfOldestBucket() {
+		count(NOW, "sugar", 10);
+		count(NOW.minusHours(1), "sugar", 4);
+		count(NOW.minusHours(2), "sugar", 100); // 구간 밖
+
+		Map<String, Double> scores = buckets.scores(TrendingWindow.HOUR);
+
+		assertEquals(10 + 4 * 0.5, scores.get("sugar"), 1e-9);
+	}
+
+	@Test
+	void dayWindow_appliesDecayAndPartialWeight() {
+		count(NOW, "sugar", 10);
+		count(NOW.minusHours(6), "salt", 20);   // 반감기 6시간 → 0.5
+		count(NOW.minusHours(24), "whey", 64);  // 0.5^4 × 남은 비율 0.5
+
+		Map<String, Double> scores = buckets.scores(TrendingWindow.DAY);
+
+		assertEquals(10.0, scores.get("sugar"), 1e-9);
+		assertEquals(10.0, scores.get("salt"), 1e-9);
+		assertEquals(64 * 0.0625 * 0.5, scores.get("whey"), 1e-9);
+	}
+
+	@Test
+	void top_isOrderedAndLimited_andLeavesNoSharedKey() {
+		count(NOW, "sugar", 3);
+		count(NOW, "salt", 5);
+		count(NOW.minusHours(1), "whey", 2);
+
+		Set<ZSetOperations.TypedTuple<String>> top = buckets.top(TrendingWindow.DAY, 2);
+
+		assertEquals(List.of("salt", "sugar"), top.stream().map(ZSetOperations.TypedTuple::getValue).toList());
+		assertTrue(redis.template().keys("popular:window:*").isEmpty(), "합산 결과 키는 조회 후 바로 삭제");
+	}
+
+	private void count(LocalDateTime hour, String ingredientId, double delta) {
+		redis.template().opsForZSet().incrementScore(TrendingBuckets.bucketKey(hour), ingredientId, delta);
+	}
+}
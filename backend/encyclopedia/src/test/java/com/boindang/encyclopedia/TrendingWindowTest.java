@@ -0,0 +1,42 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.TrendingBuckets;
+import com.boindang.encyclopedia.application.TrendingWindow;
+import com.boindang.encyclopedia.common.exception.InvalidIngredientQueryException;
+
+@DisplayName("📈 인기 성분 집계 구간 테스트")
+class TrendingWindowTest {
+
+	@Test
+	@DisplayName("✅ 구간 라벨로 조회하고, 지원하지 않는 라벨은 400 예외")
+	void fromLabel() {
+		assertEquals(TrendingWindow.HOUR, TrendingWindow.from("1h"));
+		assertEquals(TrendingWindow.DAY, TrendingWindow.from("24H"));
+		assertEquals(TrendingWindow.WEEK, TrendingWindow.from("7d"));
+		assertThrows(InvalidIngredientQueryException.class, () -> TrendingWindow.from("30d"));
+	}
+
+	@Test
+	@DisplayName("✅ 반감기마다 가중치가 절반이 되고, 1시간 구간은 감쇠하지 않는다")
+	void decay() {
+		assertEquals(1.0, TrendingWindow.DAY.decay(0));
+		assertEquals(0.5, TrendingWindow.DAY.decay(6), 1e-9);
+		assertEquals(0.25, TrendingWindow.WEEK.decay(96), 1e-9);
+		assertEquals(1.0, TrendingWindow.HOUR.decay(1));
+		assertTrue(TrendingWindow.WEEK.decay(1) > TrendingWindow.WEEK.decay(2));
+	}
+
+	@Test
+	@DisplayName("✅ 시간 버킷 키는 KST 기준 yyyyMMddHH")
+	void bucketKey() {
+		assertEquals("popular:ingredients:h:2025051309",
+			TrendingBuckets.bucketKey(LocalDateTime.of(2025, 5, 13, 9, 59)));
+	}
+}
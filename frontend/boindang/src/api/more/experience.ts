@@ -1,7 +1,9 @@
 import apiClient from '@/lib/apiClient';
-import type { MyApplicationsResponse, MyApplication } from '@/types/api/more/experience';
+import type { MyApplicationsResponse, MyApplicationPage } from '@/types/api/more/experience';
 
-export const fetchMyApplications = async (): Promise<MyApplication[]> => {
-  const response = await apiClient.get<MyApplicationsResponse>('/campaign/my-applications');
+export const fetchMyApplications = async (cursor?: string | null, size = 20): Promise<MyApplicationPage> => {
+  const response = await apiClient.get<MyApplicationsResponse>('/campaign/my-applications', {
+    params: { cursor: cursor ?? undefined, size },
+  });
   return response.data.data;
 };
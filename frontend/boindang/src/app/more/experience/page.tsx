@@ -11,12 +11,15 @@ import BackArrowIcon from '@/components/common/BackArrowIcon';
 export default function ExperiencePage() {
   const [applications, setApplications] = useState<MyApplication[]>([]);
   const [isLoading, setIsLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
   useEffect(() => {
     const fetchData = async () => {
       try {
         const data = await fetchMyApplications();
-        setApplications(data);
+        setApplications(data.applications);
+        setNextCursor(data.nextCursor);
       } catch {
         setApplications([]);
       } finally {
@@ -26,6 +29,18 @@ export default function ExperiencePage() {
     fetchData();
   }, []);
 
+  const loadMore = async () => {
+    if (!nextCursor || isLoadingMore) return;
+    setIsLoadingMore(true);
+    try {
+      const data = await fetchMyApplications(nextCursor);
+      setApplications((prev) => [...prev, ...data.applications]);
+      setNextCursor(data.nextCursor);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   return (
     <div className="flex flex-col mx-5 pt-5 pb-20 min-h-screen">
       {/* 헤더 */}
@@ -50,6 +65,16 @@ export default function ExperiencePage() {
             아직 신청한 체험단이 없습니다.
           </div>
         )}
+        {nextCursor && (
+          <button
+            type="button"
+            onClick={loadMore}
+            disabled={isLoadingMore}
+            className="w-full mt-4 py-3 text-sm text-gray-500 border border-gray-200 rounded-lg"
+          >
+            {isLoadingMore ? '불러오는 중...' : '더보기'}
+          </button>
+        )}
       </div>
       <BottomNavBar />
     </div>
@@ -5,9 +5,15 @@ export interface MyApplication {
   appliedAt: string;
 }
 
+export interface MyApplicationPage {
+  applications: MyApplication[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export interface MyApplicationsResponse {
   isSuccess: boolean;
   code: number;
   message: string;
-  data: MyApplication[];
+  data: MyApplicationPage;
 }